@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# Tempo até a primeira requisição de uma instância nova: sobe o comando, espera /actuator/health UP,
+# faz login e um GET /tasks. Mede do lado de fora, então vale para java -jar, imagem Docker etc.
+#
+#   load-tests/startup-time.sh <rótulo> <comando...>
+#   RUNS=5 load-tests/startup-time.sh cds java -XX:SharedArchiveFile=application.jsa -jar app.jar
+#
+# Variáveis: BASE_URL (http://localhost:8080), APP_AUTH_USERNAME/APP_AUTH_PASSWORD (admin/admin123), RUNS (3).
+set -euo pipefail
+
+label=$1
+shift
+base=${BASE_URL:-http://localhost:8080}
+user=${APP_AUTH_USERNAME:-admin}
+pass=${APP_AUTH_PASSWORD:-admin123}
+runs=${RUNS:-3}
+log=${TMPDIR:-/tmp}/startup-$label.log
+
+now_ms() { echo $(( $(date +%s%N) / 1000000 )); }
+
+for run in $(seq 1 "$runs"); do
+  start=$(now_ms)
+  "$@" > "$log" 2>&1 &
+  pid=$!
+  trap 'kill "$pid" 2>/dev/null || true' EXIT
+
+  until curl -fsS "$base/actuator/health" 2>/dev/null | grep -q '"status":"UP"'; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "$label: processo terminou antes do health UP (ver $log)" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  health=$(( $(now_ms) - start ))
+
+  # IP próprio por execução: o limite de login (app.rate-limit.store=jdbc) sobrevive ao restart.
+  token=$(curl -fsS -H 'Content-Type: application/json' -H "X-Forwarded-For: 198.51.100.$(( RANDOM % 250 + 1 ))" \
+      -d "{\"username\":\"$user\",\"password\":\"$pass\"}" "$base/auth/login" \
+    | sed -E 's/.*"token":"([^"]+)".*/\1/')
+  curl -fsS -o /dev/null -H "Authorization: Bearer $token" "$base/tasks?size=50"
+  first=$(( $(now_ms) - start ))
+
+  started=$(grep -oE 'Started [A-Za-z]+ in [0-9.]+ seconds' "$log" | grep -oE '[0-9.]+ seconds' || true)
+  printf '%-10s run %d  health UP %6d ms  first GET /tasks %6d ms  (Spring: %s)\n' \
+    "$label" "$run" "$health" "$first" "${started:-?}"
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+done
@@ -0,0 +1,45 @@
+// k6 run -e BASE_URL=http://localhost:8081 load-tests/tasks-list.js
+// Rodar duas vezes (VIRTUAL_THREADS_ENABLED=false / true) e comparar http_reqs/s e p(99).
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const USERNAME = __ENV.USERNAME || 'admin';
+const PASSWORD = __ENV.PASSWORD || 'admin123';
+
+export const options = {
+  scenarios: {
+    burst: {
+      executor: 'ramping-arrival-rate',
+      startRate: 50,
+      timeUnit: '1s',
+      preAllocatedVUs: 200,
+      maxVUs: 2000,
+      stages: [
+        { target: 200, duration: '30s' },
+        { target: 1000, duration: '30s' },
+        { target: 1000, duration: '60s' },
+        { target: 0, duration: '10s' },
+      ],
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+export function setup() {
+  const res = http.post(`${BASE_URL}/auth/login`, JSON.stringify({ username: USERNAME, password: PASSWORD }), {
+    headers: { 'Content-Type': 'application/json' },
+  });
+  check(res, { 'login 200': (r) => r.status === 200 });
+  return { token: res.json('token') };
+}
+
+export default function (data) {
+  const params = { headers: { Authorization: `Bearer ${data.token}` } };
+  const page = Math.floor(Math.random() * 20);
+  const res = http.get(`${BASE_URL}/tasks?page=${page}&size=20&status=TODO`, params);
+  check(res, { 'status 200': (r) => r.status === 200 });
+}
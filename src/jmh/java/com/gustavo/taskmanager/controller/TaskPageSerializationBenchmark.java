@@ -0,0 +1,68 @@
+package com.gustavo.taskmanager.controller;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gustavo.taskmanager.dto.TaskResponseDTO;
+import com.gustavo.taskmanager.entity.TaskPriority;
+import com.gustavo.taskmanager.entity.TaskStatus;
+
+/**
+ * Serialização do corpo de GET /tasks. Com PageSerializationMode.VIA_DTO o Spring
+ * escreve um PagedModel, então é ele que vai para o ObjectMapper (mesma config do Boot).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskPageSerializationBenchmark {
+
+    @Param({ "10", "50" })
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private PagedModel<TaskResponseDTO> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<TaskResponseDTO> content = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < size; i++) {
+            TaskResponseDTO dto = new TaskResponseDTO();
+            dto.setId((long) i);
+            dto.setTitle("Tarefa " + i);
+            dto.setDescription("Descrição da tarefa " + i);
+            dto.setStatus(TaskStatus.TODO);
+            dto.setPriority(TaskPriority.MEDIUM);
+            dto.setDueDate(LocalDate.of(2030, 1, 1));
+            dto.setCreatedAt(now);
+            dto.setUpdatedAt(now);
+            dto.setVersion(0L);
+            content.add(dto);
+        }
+        page = new PagedModel<>(new PageImpl<>(content, PageRequest.of(0, size), 10_000));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
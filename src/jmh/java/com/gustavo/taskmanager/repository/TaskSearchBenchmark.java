@@ -0,0 +1,111 @@
+package com.gustavo.taskmanager.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import com.gustavo.taskmanager.dto.TaskFilterDTO;
+import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.entity.TaskPriority;
+import com.gustavo.taskmanager.entity.TaskStatus;
+
+/**
+ * Consultas de GET /tasks contra H2 em memória (migrations do Flyway) com 10k tasks.
+ * Não reflete o plano do PostgreSQL, mas pega regressões nas Specifications, no count e no mapeamento.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskSearchBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private final Pageable firstPage = PageRequest.of(0, 10);
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = Task.class)
+    @EnableJpaRepositories(basePackageClasses = TaskRepository.class)
+    static class Config {
+    }
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(Config.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.jpa.hibernate.ddl-auto=validate",
+                        "spring.flyway.locations=classpath:db/migration,classpath:db/vendor/{vendor}",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                        "spring.jpa.open-in-view=false",
+                        "logging.level.root=WARN")
+                .run();
+        taskRepository = context.getBean(TaskRepository.class);
+
+        List<Task> tasks = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Task t = new Task();
+            t.setTitle((i % 20 == 0 ? "Relatorio mensal " : "Tarefa ") + i);
+            t.setDescription("Descrição " + i);
+            t.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+            t.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+            t.setDueDate(LocalDate.of(2025, 1, 1).plusDays(i % 730));
+            tasks.add(t);
+        }
+        taskRepository.saveAll(tasks);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Task> searchText() {
+        return taskRepository.findAll(TaskSpecifications.matchesText("%relatorio%"), firstPage);
+    }
+
+    @Benchmark
+    public Page<Task> searchTextAndStatus() {
+        return taskRepository.findAll(Specification.allOf(
+                TaskSpecifications.matchesText("%relatorio%"),
+                TaskSpecifications.hasStatus(TaskStatus.DONE)), firstPage);
+    }
+
+    @Benchmark
+    public Page<Task> filterOnlyStatus() {
+        return taskRepository.findAll(TaskSpecifications.hasStatus(TaskStatus.TODO), firstPage);
+    }
+
+    @Benchmark
+    public Page<Task> filterStatusesAndDueRange() {
+        return taskRepository.findAll(TaskSpecifications.matching(new TaskFilterDTO(null,
+                EnumSet.of(TaskStatus.TODO, TaskStatus.DOING), null,
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31), null, null, null, null)), firstPage);
+    }
+}
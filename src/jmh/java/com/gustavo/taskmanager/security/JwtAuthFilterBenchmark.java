@@ -0,0 +1,109 @@
+package com.gustavo.taskmanager.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.gustavo.taskmanager.config.JwtProperties;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Custo do JwtAuthFilter por requisição autenticada.
+ * legacyFilter reproduz o JwtService anterior (chave + parser montados a cada chamada);
+ * cachedFilter usa o JwtService atual com o mesmo token repetido (caso comum de um cliente em polling);
+ * prebuiltParserOnly mede um cache miss: só a verificação HMAC + parse com o parser já pronto.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-0123456789-0123456789-0123456789";
+
+    private JwtAuthFilter legacyFilter;
+    private JwtAuthFilter cachedFilter;
+    private JwtParser prebuiltParser;
+    private String token;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JwtProperties props = new JwtProperties();
+        props.setSecret(SECRET);
+        props.setExpirationMinutes(120);
+
+        JwtService jwtService = new JwtService(props);
+        token = jwtService.generateToken("admin");
+
+        cachedFilter = new JwtAuthFilter(jwtService);
+        legacyFilter = new JwtAuthFilter(new LegacyJwtService(props));
+        prebuiltParser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build();
+
+        request = new MockHttpServletRequest("GET", "/tasks");
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object legacyFilter() throws Exception {
+        return runFilter(legacyFilter);
+    }
+
+    @Benchmark
+    public Object cachedFilter() throws Exception {
+        return runFilter(cachedFilter);
+    }
+
+    @Benchmark
+    public Object prebuiltParserOnly() {
+        return prebuiltParser.parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    private Object runFilter(JwtAuthFilter filter) throws Exception {
+        filter.doFilterInternal(request, response, new MockFilterChain());
+        Object auth = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return auth;
+    }
+
+    static class LegacyJwtService extends JwtService {
+
+        private final JwtProperties props;
+
+        LegacyJwtService(JwtProperties props) {
+            super(props);
+            this.props = props;
+        }
+
+        @Override
+        public String validateAndGetSubject(String token) {
+            try {
+                return Jwts.parser()
+                        .verifyWith(Keys.hmacShaKeyFor(props.getSecret().getBytes(StandardCharsets.UTF_8)))
+                        .build()
+                        .parseSignedClaims(token)
+                        .getPayload()
+                        .getSubject();
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.gustavo.taskmanager.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.gustavo.taskmanager.config.JwtProperties;
+
+/**
+ * JwtService.validateAndGetSubject isolado do filtro.
+ * cachedToken: o mesmo token repetido (cache hit); freshToken: um token novo a cada chamada
+ * vindo de um conjunto grande demais para o cache (HMAC + parse sempre).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtServiceBenchmark {
+
+    private static final int DISTINCT_TOKENS = 20_000; // acima de JwtService.MAX_CACHED_TOKENS
+
+    private JwtService jwtService;
+    private String token;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        JwtProperties props = new JwtProperties();
+        props.setSecret("benchmark-secret-0123456789-0123456789-0123456789");
+        props.setExpirationMinutes(120);
+        jwtService = new JwtService(props);
+
+        token = jwtService.generateToken("admin");
+        tokens = new String[DISTINCT_TOKENS];
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            tokens[i] = jwtService.generateToken("user-" + i);
+        }
+    }
+
+    @Benchmark
+    public String cachedToken() {
+        return jwtService.validateAndGetSubject(token);
+    }
+
+    @Benchmark
+    public String freshToken() {
+        String t = tokens[next];
+        next = (next + 1) % DISTINCT_TOKENS;
+        return jwtService.validateAndGetSubject(t);
+    }
+}
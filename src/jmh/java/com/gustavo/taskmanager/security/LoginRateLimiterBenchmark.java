@@ -0,0 +1,54 @@
+package com.gustavo.taskmanager.security;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.gustavo.taskmanager.config.RateLimitProperties;
+
+/**
+ * LocalLoginRateLimiter.allow com 8 threads.
+ * sameKey: todas disputam o mesmo IP (pior caso de lock);
+ * manyKeys: IPs espalhados num conjunto maior que max-keys, como numa rajada de credential stuffing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class LoginRateLimiterBenchmark {
+
+    private static final int KEYS = 200_000;
+
+    private LoginRateLimiter limiter;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties props = new RateLimitProperties();
+        props.setMaxKeys(100_000);
+        limiter = new LocalLoginRateLimiter(props);
+
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "10." + (i >> 16) + "." + ((i >> 8) & 0xff) + "." + (i & 0xff);
+        }
+    }
+
+    @Benchmark
+    public boolean sameKey() {
+        return limiter.allow("10.0.0.1");
+    }
+
+    @Benchmark
+    public boolean manyKeys() {
+        return limiter.allow(keys[ThreadLocalRandom.current().nextInt(KEYS)]);
+    }
+}
@@ -0,0 +1,133 @@
+package com.gustavo.taskmanager.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gustavo.taskmanager.config.SearchProperties;
+import com.gustavo.taskmanager.dto.TaskResponseDTO;
+import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.entity.TaskPriority;
+import com.gustavo.taskmanager.entity.TaskStatus;
+import com.gustavo.taskmanager.repository.TaskRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Página de 50 tasks (consulta + DTO) em transação de escrita, somente leitura e StatelessSession, H2 em memória.
+ * O que interessa é a alocação: ./gradlew jmh -Pjmh.includes=ReadTransaction -Pjmh.profilers=gc (gc.alloc.rate.norm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskReadTransactionBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final int PAGE = 50;
+    private static final String QUERY = "from Task t order by t.createdAt desc, t.id desc";
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private SessionFactory sessionFactory;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private TaskService taskService;
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = Task.class)
+    @EnableJpaRepositories(basePackageClasses = TaskRepository.class)
+    static class Config {
+    }
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(Config.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:readtx;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.jpa.hibernate.ddl-auto=validate",
+                        "spring.flyway.locations=classpath:db/migration,classpath:db/vendor/{vendor}",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                        "spring.jpa.open-in-view=false",
+                        "logging.level.root=WARN")
+                .run();
+        entityManager = context.getBean(EntityManager.class);
+        sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        // o mapeamento não toca no repositório
+        taskService = new TaskService(null, new SearchProperties(), new TaskMetrics(new SimpleMeterRegistry()), event -> {});
+
+        List<Task> tasks = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Task t = new Task();
+            t.setTitle("Tarefa " + i);
+            t.setDescription("Descrição da tarefa " + i);
+            t.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+            t.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+            t.setDueDate(LocalDate.of(2030, 1, 1).plusDays(i % 365));
+            tasks.add(t);
+        }
+        context.getBean(TaskRepository.class).saveAll(tasks);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // Snapshot de cada entidade + dirty checking no flush do commit.
+    @Benchmark
+    public List<TaskResponseDTO> readWrite() {
+        return readWrite.execute(status -> page());
+    }
+
+    // Sessão em modo somente leitura e FlushMode.MANUAL: sem snapshot nem flush.
+    @Benchmark
+    public List<TaskResponseDTO> readOnly() {
+        return readOnly.execute(status -> page());
+    }
+
+    // Sem persistence context: nem EntityEntry, nem mapa de entidades gerenciadas.
+    @Benchmark
+    public List<TaskResponseDTO> stateless() {
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            return session.createSelectionQuery(QUERY, Task.class)
+                    .setMaxResults(PAGE)
+                    .getResultList()
+                    .stream().map(taskService::toResponseDTO).toList();
+        }
+    }
+
+    private List<TaskResponseDTO> page() {
+        return entityManager.createQuery(QUERY, Task.class)
+                .setMaxResults(PAGE)
+                .getResultList()
+                .stream().map(taskService::toResponseDTO).toList();
+    }
+}
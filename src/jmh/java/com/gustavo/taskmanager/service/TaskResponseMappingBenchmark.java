@@ -0,0 +1,64 @@
+package com.gustavo.taskmanager.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.gustavo.taskmanager.config.SearchProperties;
+import com.gustavo.taskmanager.dto.TaskResponseDTO;
+import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.entity.TaskPriority;
+import com.gustavo.taskmanager.entity.TaskStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Entity -> DTO, feito em toda leitura e escrita.
+ * single mede uma task; page mede a página máxima de GET /tasks (50 itens).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskResponseMappingBenchmark {
+
+    private TaskService taskService;
+    private Task task;
+    private List<Task> page;
+
+    @Setup
+    public void setUp() {
+        // o mapeamento não toca no repositório
+        taskService = new TaskService(null, new SearchProperties(), new TaskMetrics(new SimpleMeterRegistry()), event -> {});
+        page = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Task t = new Task();
+            t.setTitle("Tarefa " + i);
+            t.setDescription("Descrição da tarefa " + i);
+            t.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+            t.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+            t.setDueDate(LocalDate.of(2030, 1, 1).plusDays(i));
+            t.prePersist();
+            page.add(t);
+        }
+        task = page.get(0);
+    }
+
+    @Benchmark
+    public TaskResponseDTO single() {
+        return taskService.toResponseDTO(task);
+    }
+
+    @Benchmark
+    public List<TaskResponseDTO> page() {
+        return page.stream().map(taskService::toResponseDTO).toList();
+    }
+}
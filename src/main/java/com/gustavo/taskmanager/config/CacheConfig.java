@@ -0,0 +1,45 @@
+package com.gustavo.taskmanager.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String TASKS_CACHE = "tasks";
+    public static final String TASK_STATS_CACHE = "taskStats";
+
+    // Put e evict dentro de uma transação esperam o commit: um miss concorrente não guarda a linha velha.
+    @Bean
+    static BeanPostProcessor transactionAwareCacheManager() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof CacheManager manager && !(bean instanceof TransactionAwareCacheManagerProxy)
+                        ? new TransactionAwareCacheManagerProxy(manager)
+                        : bean;
+            }
+        };
+    }
+
+    // TTL próprio, mais curto que o spring.cache.caffeine.spec de "tasks": stats não é invalidado nas escritas.
+    @Bean
+    CacheManagerCustomizer<CaffeineCacheManager> taskStatsCacheCustomizer() {
+        return manager -> manager.registerCustomCache(TASK_STATS_CACHE, Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .expireAfterWrite(Duration.ofSeconds(5))
+                .recordStats()
+                .build());
+    }
+}
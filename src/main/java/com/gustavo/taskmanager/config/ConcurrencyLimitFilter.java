@@ -0,0 +1,91 @@
+package com.gustavo.taskmanager.config;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Com virtual threads não há mais o teto natural do pool do Tomcat: este semáforo limita quantas
+// requisições disputam conexões do Hikari ao mesmo tempo e devolve 503 em vez de enfileirar sem fim.
+@Component
+@Order(ConcurrencyLimitFilter.ORDER)
+@ConditionalOnProperty(prefix = "app.concurrency", name = "enabled", havingValue = "true")
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    static final int ORDER = TaskListCacheFilter.ORDER + 10;
+
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    final Semaphore permits;
+    final Semaphore readPermits;
+    private final long acquireTimeoutMillis;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties props, ReadReplicaProperties replica, Environment environment) {
+        this.permits = new Semaphore(maxConcurrent(props, environment), true);
+        this.readPermits = replica.getUrl() == null ? permits : new Semaphore(maxConcurrentReads(props, replica), true);
+        this.acquireTimeoutMillis = props.getAcquireTimeout().toMillis();
+    }
+
+    static int maxConcurrent(ConcurrencyLimitProperties props, Environment environment) {
+        if (props.getMaxConcurrent() != null) {
+            return props.getMaxConcurrent();
+        }
+        int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class,
+                HIKARI_DEFAULT_POOL_SIZE);
+        return Math.max(1, poolSize - props.getReservedConnections());
+    }
+
+    static int maxConcurrentReads(ConcurrencyLimitProperties props, ReadReplicaProperties replica) {
+        return props.getMaxConcurrentReads() != null ? props.getMaxConcurrentReads() : replica.getMaximumPoolSize();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/tasks");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Semaphore semaphore = isRead(request) ? readPermits : permits;
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        return "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+    }
+}
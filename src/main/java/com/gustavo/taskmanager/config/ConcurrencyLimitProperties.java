@@ -0,0 +1,62 @@
+package com.gustavo.taskmanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.concurrency")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = false;
+
+    // Requisições simultâneas em /tasks/** no pool primário. Sem valor: tamanho do pool Hikari menos reservedConnections.
+    private Integer maxConcurrent;
+
+    // Conexões do primário fora do limite, para o rate limiter JDBC do login e os jobs agendados.
+    private int reservedConnections = 2;
+
+    // Com réplica de leitura, GETs simultâneos em /tasks/**. Sem valor: app.datasource.replica.maximum-pool-size.
+    private Integer maxConcurrentReads;
+
+    private Duration acquireTimeout = Duration.ofSeconds(2);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Integer getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public void setMaxConcurrent(Integer maxConcurrent) {
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    public int getReservedConnections() {
+        return reservedConnections;
+    }
+
+    public void setReservedConnections(int reservedConnections) {
+        this.reservedConnections = reservedConnections;
+    }
+
+    public Integer getMaxConcurrentReads() {
+        return maxConcurrentReads;
+    }
+
+    public void setMaxConcurrentReads(Integer maxConcurrentReads) {
+        this.maxConcurrentReads = maxConcurrentReads;
+    }
+
+    public Duration getAcquireTimeout() {
+        return acquireTimeout;
+    }
+
+    public void setAcquireTimeout(Duration acquireTimeout) {
+        this.acquireTimeout = acquireTimeout;
+    }
+}
@@ -0,0 +1,27 @@
+package com.gustavo.taskmanager.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.gustavo.taskmanager.security.JdbcLoginRateLimiter;
+import com.gustavo.taskmanager.service.PgTaskEventBridge;
+import com.gustavo.taskmanager.service.TaskCounterFolder;
+import com.gustavo.taskmanager.service.TaskDeletionPurger;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Com spring.main.lazy-initialization (perfil lazy) estes continuam na subida: health UP tem de significar
+// schema migrado e validado, e uma réplica nova recebe eventos das outras mesmo sem ninguém chamá-la ainda.
+// Beans com @Scheduled também: sem instância, a tarefa nunca é agendada.
+@Configuration
+public class LazyInitConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerAtStartup() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                FlywayMigrationInitializer.class, EntityManagerFactory.class, PgTaskEventBridge.class,
+                TaskCounterFolder.class, TaskDeletionPurger.class, JdbcLoginRateLimiter.class);
+    }
+}
@@ -0,0 +1,28 @@
+package com.gustavo.taskmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// Credencial HTTP Basic só do /actuator/prometheus, separada do JWT das rotas /tasks/**.
+// Sem usuário/senha configurados o endpoint fica fechado.
+@ConfigurationProperties(prefix = "app.metrics.scrape")
+public class MetricsScrapeProperties {
+
+    private String username;
+    private String password;
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+}
@@ -0,0 +1,52 @@
+package com.gustavo.taskmanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    // "local": contadores na memória desta instância; "jdbc": tabela login_attempts (PostgreSQL, migration V7),
+    // compartilhada entre réplicas.
+    private String store = "local";
+
+    private int maxAttempts = 5;
+
+    private Duration window = Duration.ofMinutes(1);
+
+    // Teto de chaves (IPs) mantidas em memória; as menos usadas saem primeiro.
+    private int maxKeys = 100_000;
+
+    public String getStore() {
+        return store;
+    }
+
+    public void setStore(String store) {
+        this.store = store;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public void setWindow(Duration window) {
+        this.window = window;
+    }
+
+    public int getMaxKeys() {
+        return maxKeys;
+    }
+
+    public void setMaxKeys(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+}
@@ -0,0 +1,44 @@
+package com.gustavo.taskmanager.config;
+
+import java.time.Duration;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gustavo.taskmanager.dto.TaskEventDTO;
+import com.gustavo.taskmanager.security.JwtAuthentication;
+
+// Tokens que escreveram há menos de stickyWindow. Toda escrita de task publica um TaskEventDTO;
+// ouvido após o commit, na thread da requisição, onde o SecurityContext ainda identifica o cliente.
+public class ReadYourWritesGuard {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesGuard(Duration stickyWindow) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(stickyWindow)
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEventDTO event) {
+        String token = currentToken();
+        if (token != null) {
+            recentWriters.put(token, Boolean.TRUE);
+        }
+    }
+
+    public boolean recentlyWrote() {
+        String token = currentToken();
+        return token != null && recentWriters.getIfPresent(token) != null;
+    }
+
+    private static String currentToken() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth instanceof JwtAuthentication jwt ? jwt.getToken() : null;
+    }
+}
@@ -0,0 +1,49 @@
+package com.gustavo.taskmanager.config;
+
+import java.io.IOException;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// O gzip do Tomcat (server.compression) só respeita min-response-size quando conhece o Content-Length;
+// o Jackson escreve em chunked, então até um 404 de 100 bytes seria comprimido. Os GETs de /tasks têm
+// tamanho limitado (página <= 50, changes <= 500): bufferizados, saem com Content-Length e só o que passa
+// do limite é comprimido. stream (SSE) e export continuam em streaming.
+@Component
+@Order(ResponseLengthFilter.ORDER)
+@ConditionalOnProperty(prefix = "server.compression", name = "enabled", havingValue = "true")
+public class ResponseLengthFilter extends OncePerRequestFilter {
+
+    static final int ORDER = ConcurrencyLimitFilter.ORDER + 10;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !"GET".equals(request.getMethod())
+                || !(uri.equals("/tasks") || uri.startsWith("/tasks/"))
+                || uri.equals("/tasks/stream")
+                || uri.equals("/tasks/export");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, buffered);
+        } finally {
+            buffered.copyBodyToResponse();
+        }
+    }
+}
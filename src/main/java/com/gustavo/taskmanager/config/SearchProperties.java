@@ -0,0 +1,29 @@
+package com.gustavo.taskmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.search")
+public class SearchProperties {
+
+    // Requer a coluna search_vector (migration PostgreSQL V4); no H2 fica desligado e a busca usa LIKE.
+    private boolean fullText = false;
+
+    // Requer a tabela task_counters (migration PostgreSQL V8): totais sem texto saem dela, sem count(*).
+    private boolean counterTable = false;
+
+    public boolean isFullText() {
+        return fullText;
+    }
+
+    public void setFullText(boolean fullText) {
+        this.fullText = fullText;
+    }
+
+    public boolean isCounterTable() {
+        return counterTable;
+    }
+
+    public void setCounterTable(boolean counterTable) {
+        this.counterTable = counterTable;
+    }
+}
@@ -2,17 +2,22 @@ package com.gustavo.taskmanager.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import com.gustavo.taskmanager.security.JwtAuthFilter;
 
+import jakarta.servlet.DispatcherType;
+
 @Configuration
 public class SecurityConfig {
 
@@ -29,7 +34,39 @@ public class SecurityConfig {
         };
     }
 
+    // Scraper do Prometheus usa HTTP Basic próprio; não recebe nem aceita o JWT da API.
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricsScrapeFilterChain(HttpSecurity http, MetricsScrapeProperties scrape) throws Exception {
+        boolean configured = scrape.getUsername() != null && !scrape.getUsername().isBlank()
+                && scrape.getPassword() != null && !scrape.getPassword().isBlank();
+
+        http
+                .securityMatcher("/actuator/prometheus")
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> {
+                    if (configured) {
+                        auth.anyRequest().hasRole("METRICS");
+                    } else {
+                        auth.anyRequest().denyAll();
+                    }
+                })
+                .httpBasic(Customizer.withDefaults())
+                .formLogin(AbstractHttpConfigurer::disable);
+
+        if (configured) {
+            http.userDetailsService(new InMemoryUserDetailsManager(User.withUsername(scrape.getUsername())
+                    .password("{noop}" + scrape.getPassword())
+                    .roles("METRICS")
+                    .build()));
+        }
+
+        return http.build();
+    }
+
     @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
@@ -40,6 +77,8 @@ public class SecurityConfig {
                 }))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(org.springframework.http.HttpMethod.OPTIONS, "/**").permitAll()
+                        // Dispatch assíncrono do SSE (/tasks/stream): a requisição original já passou pelo JWT.
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/actuator/health",
                                 "/v3/api-docs/**",
@@ -48,6 +87,9 @@ public class SecurityConfig {
                                 "/auth/**"
                         ).permitAll()
                         .requestMatchers("/tasks/**").authenticated()
+                        .requestMatchers("/actuator/metrics/**").authenticated()
+                        // Fora da exposição em prod; se alguém expuser, o DELETE (esvaziar caches) não fica aberto.
+                        .requestMatchers("/actuator/caches/**").denyAll()
                         .anyRequest().permitAll()
                 )
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
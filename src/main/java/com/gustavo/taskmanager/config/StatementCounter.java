@@ -0,0 +1,97 @@
+package com.gustavo.taskmanager.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+// Conta cada SQL enviado ao banco na thread atual, no nível do DataSource: Hibernate, JdbcTemplate
+// (PATCH parcial, login_attempts) e pg_notify passam todos por aqui. Um PreparedStatement conta uma vez,
+// mesmo em lote; Statement simples conta a cada execute. O StatementCountFilter zera no início da
+// requisição e publica no final.
+@Component
+public class StatementCounter implements BeanPostProcessor {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    // Só o DataSource principal: com réplica ele é o roteador, e embrulhar os dois pools contaria em dobro.
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+            return new CountingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    static int current() {
+        return COUNT.get()[0];
+    }
+
+    private static void increment() {
+        COUNT.get()[0]++;
+    }
+
+    static class CountingDataSource extends DelegatingDataSource {
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return countingConnection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return countingConnection(super.getConnection(username, password));
+        }
+    }
+
+    // ConnectionProxy: DataSourceUtils e JdbcTemplate chegam à conexão real por getTargetConnection().
+    private static Connection countingConnection(Connection target) {
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                new Class<?>[] { ConnectionProxy.class }, (proxy, method, args) -> switch (method.getName()) {
+                    case "getTargetConnection" -> target;
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "prepareStatement", "prepareCall" -> {
+                        increment();
+                        yield invoke(target, method, args);
+                    }
+                    case "createStatement" -> countingStatement((Statement) invoke(target, method, args));
+                    default -> invoke(target, method, args);
+                });
+    }
+
+    private static Statement countingStatement(Statement target) {
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(),
+                new Class<?>[] { Statement.class }, (proxy, method, args) -> {
+                    if (method.getName().startsWith("execute")) {
+                        increment();
+                    }
+                    return invoke(target, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
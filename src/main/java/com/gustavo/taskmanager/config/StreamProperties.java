@@ -0,0 +1,64 @@
+package com.gustavo.taskmanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.stream")
+public class StreamProperties {
+
+    // Eventos pendentes por assinante de GET /tasks/stream; estourou, o assinante é desconectado
+    // (reconecta e recupera o intervalo por GET /tasks/changes).
+    private int bufferSize = 256;
+
+    private int maxSubscribers = 1_000;
+
+    // Conexão SSE é encerrada após esse tempo; o EventSource do navegador reconecta sozinho.
+    private Duration timeout = Duration.ofMinutes(30);
+
+    // Comentário vazio periódico para proxies não derrubarem a conexão ociosa.
+    private Duration heartbeat = Duration.ofSeconds(15);
+
+    // "none": eventos só desta instância; "postgres": LISTEN/NOTIFY entre réplicas.
+    private String bridge = "none";
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getMaxSubscribers() {
+        return maxSubscribers;
+    }
+
+    public void setMaxSubscribers(int maxSubscribers) {
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public Duration getHeartbeat() {
+        return heartbeat;
+    }
+
+    public void setHeartbeat(Duration heartbeat) {
+        this.heartbeat = heartbeat;
+    }
+
+    public String getBridge() {
+        return bridge;
+    }
+
+    public void setBridge(String bridge) {
+        this.bridge = bridge;
+    }
+}
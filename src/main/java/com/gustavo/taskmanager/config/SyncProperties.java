@@ -0,0 +1,61 @@
+package com.gustavo.taskmanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.sync")
+public class SyncProperties {
+
+    // Prazo das escritas de uma task no TaskService; @Transactional só aceita segundos inteiros.
+    public static final String WRITE_TIMEOUT_SECONDS = "${app.sync.write-timeout-seconds:4}";
+
+    // updatedAt/deletedAt vêm do relógio da aplicação, antes do commit. O feed só entrega mudanças
+    // mais velhas que isso, para que uma transação lenta não grave atrás de um watermark já entregue.
+    // Sem valor: o maior prazo de escrita de task abaixo + 1s. Com réplica, somar o atraso dela.
+    private Duration commitGrace;
+
+    // Prazo, em segundos, de update/patch/delete no TaskService (WRITE_TIMEOUT_SECONDS): passou disso,
+    // rollback. Junto com o de baixo, garante que nenhuma linha commita com updatedAt mais velho que commitGrace.
+    private int writeTimeoutSeconds = 4;
+
+    // Prazo, em segundos, de cada bloco de /tasks/batch (TaskBatchService.COMMIT_SIZE itens).
+    private int batchWriteTimeoutSeconds = 10;
+
+    // Exclusões mais velhas que isso saem de task_deletions (TaskDeletionPurger); um since anterior
+    // responde 410 e o cliente refaz o sync completo.
+    private Duration deletionRetention = Duration.ofDays(30);
+
+    public Duration getCommitGrace() {
+        return commitGrace != null ? commitGrace
+                : Duration.ofSeconds(Math.max(writeTimeoutSeconds, batchWriteTimeoutSeconds) + 1);
+    }
+
+    public void setCommitGrace(Duration commitGrace) {
+        this.commitGrace = commitGrace;
+    }
+
+    public int getWriteTimeoutSeconds() {
+        return writeTimeoutSeconds;
+    }
+
+    public void setWriteTimeoutSeconds(int writeTimeoutSeconds) {
+        this.writeTimeoutSeconds = writeTimeoutSeconds;
+    }
+
+    public int getBatchWriteTimeoutSeconds() {
+        return batchWriteTimeoutSeconds;
+    }
+
+    public void setBatchWriteTimeoutSeconds(int batchWriteTimeoutSeconds) {
+        this.batchWriteTimeoutSeconds = batchWriteTimeoutSeconds;
+    }
+
+    public Duration getDeletionRetention() {
+        return deletionRetention;
+    }
+
+    public void setDeletionRetention(Duration deletionRetention) {
+        this.deletionRetention = deletionRetention;
+    }
+}
@@ -0,0 +1,140 @@
+package com.gustavo.taskmanager.config;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gustavo.taskmanager.dto.TaskEventDTO;
+import com.gustavo.taskmanager.service.RemoteTaskEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Corpo já serializado de GET /tasks por combinação de parâmetros: acerto sai do byte[], sem JPA nem Jackson.
+// Toda escrita de task publica um TaskEventDTO; após o commit ele incrementa a geração e tudo que foi guardado
+// antes deixa de valer. A geração é lida antes da consulta, então uma página montada durante uma escrita
+// fica com a geração velha e nunca é servida. Escritas de outras réplicas chegam como RemoteTaskEvent.
+// Roda depois do Spring Security: só requisição autenticada chega aqui. E antes do ConcurrencyLimitFilter e do
+// ResponseLengthFilter: um acerto não ocupa permissão do semáforo nem passa por outro buffer.
+@Component
+@Order(TaskListCacheFilter.ORDER)
+@ConditionalOnProperty(prefix = "app.list-cache", name = "enabled", havingValue = "true")
+public class TaskListCacheFilter extends OncePerRequestFilter {
+
+    static final int ORDER = Ordered.LOWEST_PRECEDENCE - 30;
+
+    // Valores em qualquer ordem, repetidos ou separados por vírgula dão o mesmo resultado.
+    private static final Set<String> SET_PARAMS = Set.of("status", "priority", "fields");
+
+    private final Cache<String, Entry> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public TaskListCacheFilter(TaskListCacheProperties props, MeterRegistry registry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(props.getMaxSize().toBytes())
+                .weigher((String key, Entry entry) -> key.length() + entry.body().length)
+                .expireAfterWrite(props.getTtl())
+                .build();
+        this.hits = Counter.builder("tasks.list.cache").tag("result", "hit")
+                .description("GET /tasks servido do cache de respostas")
+                .register(registry);
+        this.misses = Counter.builder("tasks.list.cache").tag("result", "miss")
+                .description("GET /tasks servido do cache de respostas")
+                .register(registry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEventDTO event) {
+        generation.incrementAndGet();
+    }
+
+    @EventListener
+    public void onRemoteTaskEvent(RemoteTaskEvent event) {
+        generation.incrementAndGet();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || !"/tasks".equals(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String key = key(request.getParameterMap());
+        long current = generation.get();
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null && cached.generation() == current) {
+            hits.increment();
+            response.setContentType(cached.contentType());
+            response.setContentLength(cached.body().length);
+            response.getOutputStream().write(cached.body());
+            return;
+        }
+
+        misses.increment();
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, buffered);
+            if (buffered.getStatus() == HttpServletResponse.SC_OK && buffered.getContentType() != null) {
+                cache.put(key, new Entry(current, buffered.getContentType(), buffered.getContentAsByteArray()));
+            }
+        } finally {
+            buffered.copyBodyToResponse();
+        }
+    }
+
+    // Nome e valores codificados como na URL: um q com "&" ou "," não colide com outra combinação.
+    static String key(Map<String, String[]> params) {
+        StringBuilder key = new StringBuilder();
+        new TreeMap<>(params).forEach((name, values) -> {
+            Stream<String> normalized = SET_PARAMS.contains(name)
+                    ? Arrays.stream(values)
+                            .flatMap(v -> Arrays.stream(v.split(",")))
+                            .map(String::trim)
+                            .filter(v -> !v.isEmpty())
+                            .collect(Collectors.toCollection(TreeSet::new))
+                            .stream()
+                    : Arrays.stream(values);
+            key.append(encode(name)).append('=')
+                    .append(normalized.map(TaskListCacheFilter::encode).collect(Collectors.joining(",")))
+                    .append('&');
+        });
+        return key.toString();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private record Entry(long generation, String contentType, byte[] body) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.gustavo.taskmanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "app.list-cache")
+public class TaskListCacheProperties {
+
+    private boolean enabled = false;
+
+    // Escritas desta instância invalidam na hora (geração); o TTL limita o atraso das escritas de outras réplicas.
+    private Duration ttl = Duration.ofSeconds(2);
+
+    // Soma dos corpos guardados; uma página de 50 tasks tem algumas dezenas de KB.
+    private DataSize maxSize = DataSize.ofMegabytes(16);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+}
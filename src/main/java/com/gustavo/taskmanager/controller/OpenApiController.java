@@ -0,0 +1,102 @@
+package com.gustavo.taskmanager.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Hidden;
+
+// Documento OpenAPI pronto (src/main/resources/openapi/api-docs.json, conferido com o springdoc em
+// OpenApiDocumentTest): lido e comprimido uma vez na subida, servido como byte[] sem serializar nada.
+// O springdoc fica desligado em runtime (no perfil dev responde em /v3/api-docs/live para o Swagger UI).
+// A rota é pública; em prod o controller nem sobe (app.docs.enabled=false) e /v3/api-docs responde 404.
+@Hidden
+@RestController
+@ConditionalOnProperty(prefix = "app.docs", name = "enabled", havingValue = "true")
+public class OpenApiController {
+
+    static final String DOCUMENT = "openapi/api-docs.json";
+
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String etag;
+    private final String gzipETag;
+
+    // ETag forte precisa mudar com a codificação: a versão gzip leva sufixo próprio.
+    public OpenApiController() {
+        this.json = read(DOCUMENT);
+        this.gzip = gzip(json);
+        String hash = sha256(json);
+        this.etag = "\"" + hash + "\"";
+        this.gzipETag = "\"" + hash + "-gzip\"";
+    }
+
+    // Com ETag no ResponseEntity, o Spring responde 304 sem corpo quando o If-None-Match confere.
+    @GetMapping(path = "/v3/api-docs", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> apiDocs(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (acceptsGzip(acceptEncoding)) {
+            return response.eTag(gzipETag).header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzip);
+        }
+        return response.eTag(etag).body(json);
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            if (tokens[0].trim().equalsIgnoreCase("gzip")) {
+                return tokens.length < 2 || !tokens[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static byte[] read(String path) {
+        try (InputStream in = new ClassPathResource(path).getInputStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("OpenAPI ausente: " + path, e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,20 +1,41 @@
 package com.gustavo.taskmanager.controller;
 
+import java.io.IOException;
+import java.util.List;
+
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.gustavo.taskmanager.dto.TaskBatchPatchDTO;
+import com.gustavo.taskmanager.dto.TaskBatchResultDTO;
+import com.gustavo.taskmanager.dto.TaskChangesDTO;
 import com.gustavo.taskmanager.dto.TaskCreateDTO;
+import com.gustavo.taskmanager.dto.TaskCursorPageDTO;
+import com.gustavo.taskmanager.dto.TaskFieldSet;
+import com.gustavo.taskmanager.dto.TaskFilterDTO;
 import com.gustavo.taskmanager.dto.TaskPatchDTO;
 import com.gustavo.taskmanager.dto.TaskResponseDTO;
+import com.gustavo.taskmanager.dto.TaskSliceDTO;
+import com.gustavo.taskmanager.dto.TaskStatsDTO;
 import com.gustavo.taskmanager.dto.TaskUpdateDTO;
 import com.gustavo.taskmanager.entity.Task;
-import com.gustavo.taskmanager.entity.TaskPriority;
-import com.gustavo.taskmanager.entity.TaskStatus;
+import com.gustavo.taskmanager.service.TaskBatchService;
+import com.gustavo.taskmanager.service.TaskEventBus;
+import com.gustavo.taskmanager.service.TaskExportFormat;
+import com.gustavo.taskmanager.service.TaskExportService;
 import com.gustavo.taskmanager.service.TaskService;
+import com.gustavo.taskmanager.service.TaskSyncService;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 @RestController
@@ -24,54 +45,176 @@ public class TaskController {
     private static final int DEFAULT_PAGE = 0;
     private static final int DEFAULT_SIZE = 10;
     private static final int MAX_SIZE = 50;
+    // Ordem determinística entre páginas; segue idx_tasks_created_at_id e os índices compostos de V10.
+    private static final Sort LIST_SORT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+    private static final int DEFAULT_CHANGES_SIZE = 100;
+    private static final int MAX_CHANGES_SIZE = 500;
 
     private final TaskService taskService;
-
-    public TaskController(TaskService taskService) {
+    private final TaskBatchService taskBatchService;
+    private final TaskExportService taskExportService;
+    private final TaskSyncService taskSyncService;
+    private final TaskEventBus taskEventBus;
+
+    public TaskController(TaskService taskService, TaskBatchService taskBatchService,
+                          TaskExportService taskExportService, TaskSyncService taskSyncService,
+                          TaskEventBus taskEventBus) {
         this.taskService = taskService;
+        this.taskBatchService = taskBatchService;
+        this.taskExportService = taskExportService;
+        this.taskSyncService = taskSyncService;
+        this.taskEventBus = taskEventBus;
     }
 
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    public TaskResponseDTO create(@Valid @RequestBody TaskCreateDTO dto) {
+    public ResponseEntity<TaskResponseDTO> create(@Valid @RequestBody TaskCreateDTO dto) {
         Task created = taskService.create(dto);
-        return taskService.toResponseDTO(created);
+        return withETag(ResponseEntity.status(HttpStatus.CREATED), taskService.toResponseDTO(created));
     }
 
+    // Validação por item dentro do service: um item inválido não derruba o lote inteiro.
+    @PostMapping("/batch")
+    public TaskBatchResultDTO createBatch(@RequestBody List<TaskCreateDTO> dtos) {
+        return taskBatchService.createAll(dtos);
+    }
+
+    @PatchMapping("/batch")
+    public TaskBatchResultDTO patchBatch(@RequestBody List<TaskBatchPatchDTO> dtos) {
+        return taskBatchService.patchAll(dtos);
+    }
+
+    @DeleteMapping("/batch")
+    public TaskBatchResultDTO deleteBatch(@RequestBody List<Long> ids) {
+        return taskBatchService.deleteAll(ids);
+    }
+
+    // Filtros (q, status, priority, dueFrom/dueTo, createdFrom/createdTo, updatedFrom/updatedTo) vêm em TaskFilterDTO.
+    // fields=id,title,status,priority (nos três modos de listagem): só essas colunas saem do banco e no JSON.
     @GetMapping
-    public Page<TaskResponseDTO> list(
-            @RequestParam(required = false) String q,
-            @RequestParam(required = false) TaskStatus status,
-            @RequestParam(required = false) TaskPriority priority,
+    public Page<?> list(
+            @ParameterObject TaskFilterDTO filter,
+            @RequestParam(required = false) String fields,
             @RequestParam(defaultValue = "" + DEFAULT_PAGE) int page,
             @RequestParam(defaultValue = "" + DEFAULT_SIZE) int size
     ) {
         int safePage = Math.max(page, 0);
         int safeSize = Math.min(Math.max(size, 1), MAX_SIZE);
-        Pageable pageable = PageRequest.of(safePage, safeSize);
-        return taskService.search(q, status, priority, pageable);
+        Pageable pageable = PageRequest.of(safePage, safeSize, LIST_SORT);
+        TaskFieldSet projection = TaskFieldSet.parse(fields);
+        return projection == null
+                ? taskService.search(filter, pageable)
+                : taskService.search(filter, projection, pageable);
     }
 
+    @GetMapping(params = { "withTotal=false", "!cursor" })
+    public TaskSliceDTO<?> listWithoutTotal(
+            @ParameterObject TaskFilterDTO filter,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE) int page,
+            @RequestParam(defaultValue = "" + DEFAULT_SIZE) int size
+    ) {
+        int safePage = Math.max(page, 0);
+        int safeSize = Math.min(Math.max(size, 1), MAX_SIZE);
+        Pageable pageable = PageRequest.of(safePage, safeSize, LIST_SORT);
+        TaskFieldSet projection = TaskFieldSet.parse(fields);
+        return projection == null
+                ? taskService.searchSlice(filter, pageable)
+                : taskService.searchSlice(filter, projection, pageable);
+    }
+
+    @GetMapping(params = "cursor")
+    public TaskCursorPageDTO<?> scroll(
+            @ParameterObject TaskFilterDTO filter,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_SIZE) int size
+    ) {
+        int safeSize = Math.min(Math.max(size, 1), MAX_SIZE);
+        TaskFieldSet projection = TaskFieldSet.parse(fields);
+        return projection == null
+                ? taskService.scroll(filter, cursor, safeSize)
+                : taskService.scroll(filter, projection, cursor, safeSize);
+    }
+
+    @GetMapping("/stats")
+    public TaskStatsDTO stats(@ParameterObject TaskFilterDTO filter) {
+        return taskService.stats(filter);
+    }
+
+    // "since" aceita o "next" da resposta anterior ou um instante ISO-8601 para o primeiro sync.
+    @GetMapping("/changes")
+    public TaskChangesDTO changes(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "" + DEFAULT_CHANGES_SIZE) int size
+    ) {
+        int safeSize = Math.min(Math.max(size, 1), MAX_CHANGES_SIZE);
+        return taskSyncService.changes(since, safeSize);
+    }
+
+    // Push em vez de polling: eventos created/updated/deleted após o commit. Ao reconectar, o cliente
+    // recupera o que perdeu com GET /tasks/changes.
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream() {
+        return taskEventBus.subscribe()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "5")
+                        .build());
+    }
+
+    @GetMapping("/export")
+    public void export(@RequestParam(defaultValue = "NDJSON") TaskExportFormat format,
+                       HttpServletResponse response) throws IOException {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + format.getExtension() + "\"");
+        taskExportService.export(format, response.getOutputStream());
+    }
+
+    // Com ETag no ResponseEntity, o Spring responde 304 sem corpo quando o If-None-Match confere.
     @GetMapping("/{id}")
-    public TaskResponseDTO getById(@PathVariable Long id) {
-        Task task = taskService.findById(id);
-        return taskService.toResponseDTO(task);
+    public ResponseEntity<TaskResponseDTO> getById(@PathVariable Long id) {
+        return withETag(ResponseEntity.ok(), taskService.findResponseById(id));
     }
 
     @PutMapping("/{id}")
-    public TaskResponseDTO update(@PathVariable Long id, @Valid @RequestBody TaskUpdateDTO dto) {
-        return taskService.update(id, dto);
+    public ResponseEntity<TaskResponseDTO> update(@PathVariable Long id, @Valid @RequestBody TaskUpdateDTO dto,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return withETag(ResponseEntity.ok(), taskService.update(id, dto, expectedVersion(ifMatch)));
     }
 
     @PatchMapping("/{id}")
-    public TaskResponseDTO patch(@PathVariable Long id, @Valid @RequestBody TaskPatchDTO dto) {
-        return taskService.patch(id, dto);
+    public ResponseEntity<TaskResponseDTO> patch(@PathVariable Long id, @Valid @RequestBody TaskPatchDTO dto,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return withETag(ResponseEntity.ok(), taskService.patch(id, dto, expectedVersion(ifMatch)));
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void delete(@PathVariable Long id) {
-        taskService.delete(id);
+    public void delete(@PathVariable Long id,
+                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        taskService.delete(id, expectedVersion(ifMatch));
+    }
+
+    private static ResponseEntity<TaskResponseDTO> withETag(ResponseEntity.BodyBuilder builder, TaskResponseDTO dto) {
+        return builder.eTag("\"" + dto.getVersion() + "\"").body(dto);
+    }
+
+    // If-Match ausente ou "*": sem condição. Só um ETag forte "<versão>" é aceito;
+    // qualquer outro valor (fraco, lista, lixo) vira uma versão que nunca confere -> 412.
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException ignored) {
+                // cai no -1 abaixo
+            }
+        }
+        return -1L;
     }
 }
 
@@ -0,0 +1,37 @@
+package com.gustavo.taskmanager.dto;
+
+import java.util.Map;
+
+public class TaskBatchItemDTO {
+
+    private int index;
+    private Long id;
+    private int status;
+    private TaskResponseDTO task;
+    private Map<String, String> errors;
+
+    public TaskBatchItemDTO() {}
+
+    public TaskBatchItemDTO(int index, Long id, int status, TaskResponseDTO task, Map<String, String> errors) {
+        this.index = index;
+        this.id = id;
+        this.status = status;
+        this.task = task;
+        this.errors = errors;
+    }
+
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public int getStatus() { return status; }
+    public void setStatus(int status) { this.status = status; }
+
+    public TaskResponseDTO getTask() { return task; }
+    public void setTask(TaskResponseDTO task) { this.task = task; }
+
+    public Map<String, String> getErrors() { return errors; }
+    public void setErrors(Map<String, String> errors) { this.errors = errors; }
+}
@@ -0,0 +1,12 @@
+package com.gustavo.taskmanager.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+public class TaskBatchPatchDTO extends TaskPatchDTO {
+
+    @NotNull(message = "id é obrigatório")
+    private Long id;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+}
@@ -0,0 +1,29 @@
+package com.gustavo.taskmanager.dto;
+
+import java.util.List;
+
+public class TaskBatchResultDTO {
+
+    private int succeeded;
+    private int failed;
+    private List<TaskBatchItemDTO> items;
+
+    public TaskBatchResultDTO() {}
+
+    public TaskBatchResultDTO(List<TaskBatchItemDTO> items) {
+        this.items = items;
+        for (TaskBatchItemDTO item : items) {
+            if (item.getStatus() < 300) succeeded++;
+            else failed++;
+        }
+    }
+
+    public int getSucceeded() { return succeeded; }
+    public void setSucceeded(int succeeded) { this.succeeded = succeeded; }
+
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+
+    public List<TaskBatchItemDTO> getItems() { return items; }
+    public void setItems(List<TaskBatchItemDTO> items) { this.items = items; }
+}
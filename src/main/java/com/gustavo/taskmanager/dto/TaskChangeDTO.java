@@ -0,0 +1,37 @@
+package com.gustavo.taskmanager.dto;
+
+import java.time.LocalDateTime;
+
+public class TaskChangeDTO {
+
+    public static final String CHANGED = "changed";
+    public static final String DELETED = "deleted";
+
+    private String type;
+    private Long id;
+    private LocalDateTime at;
+
+    // Estado atual da task; null quando type = deleted.
+    private TaskResponseDTO task;
+
+    public TaskChangeDTO() {}
+
+    public TaskChangeDTO(String type, Long id, LocalDateTime at, TaskResponseDTO task) {
+        this.type = type;
+        this.id = id;
+        this.at = at;
+        this.task = task;
+    }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public LocalDateTime getAt() { return at; }
+    public void setAt(LocalDateTime at) { this.at = at; }
+
+    public TaskResponseDTO getTask() { return task; }
+    public void setTask(TaskResponseDTO task) { this.task = task; }
+}
@@ -0,0 +1,29 @@
+package com.gustavo.taskmanager.dto;
+
+import java.util.List;
+
+public class TaskChangesDTO {
+
+    private List<TaskChangeDTO> changes;
+
+    // Sempre preenchido: o cliente guarda e manda de volta como "since" no próximo sync.
+    private String next;
+    private boolean hasMore;
+
+    public TaskChangesDTO() {}
+
+    public TaskChangesDTO(List<TaskChangeDTO> changes, String next, boolean hasMore) {
+        this.changes = changes;
+        this.next = next;
+        this.hasMore = hasMore;
+    }
+
+    public List<TaskChangeDTO> getChanges() { return changes; }
+    public void setChanges(List<TaskChangeDTO> changes) { this.changes = changes; }
+
+    public String getNext() { return next; }
+    public void setNext(String next) { this.next = next; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+}
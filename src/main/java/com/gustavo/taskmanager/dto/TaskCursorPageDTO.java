@@ -0,0 +1,32 @@
+package com.gustavo.taskmanager.dto;
+
+import java.util.List;
+
+public class TaskCursorPageDTO<T> {
+
+    private List<T> content;
+    private int size;
+    private String next;
+    private String prev;
+
+    public TaskCursorPageDTO() {}
+
+    public TaskCursorPageDTO(List<T> content, int size, String next, String prev) {
+        this.content = content;
+        this.size = size;
+        this.next = next;
+        this.prev = prev;
+    }
+
+    public List<T> getContent() { return content; }
+    public void setContent(List<T> content) { this.content = content; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public String getNext() { return next; }
+    public void setNext(String next) { this.next = next; }
+
+    public String getPrev() { return prev; }
+    public void setPrev(String prev) { this.prev = prev; }
+}
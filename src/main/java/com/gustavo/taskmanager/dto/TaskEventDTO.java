@@ -0,0 +1,57 @@
+package com.gustavo.taskmanager.dto;
+
+import java.time.LocalDateTime;
+
+public class TaskEventDTO {
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+    // Vem de outra réplica quando o lote dela não coube num NOTIFY: o assinante recupera por GET /tasks/changes.
+    public static final String RESYNC = "resync";
+
+    private String type;
+    private Long id;
+    private Long version;
+    private LocalDateTime at;
+
+    // Estado após a escrita; null quando type = deleted.
+    private TaskResponseDTO task;
+
+    public TaskEventDTO() {}
+
+    public TaskEventDTO(String type, Long id, Long version, LocalDateTime at, TaskResponseDTO task) {
+        this.type = type;
+        this.id = id;
+        this.version = version;
+        this.at = at;
+        this.task = task;
+    }
+
+    public static TaskEventDTO of(String type, TaskResponseDTO task) {
+        return new TaskEventDTO(type, task.getId(), task.getVersion(), task.getUpdatedAt(), task);
+    }
+
+    public static TaskEventDTO deleted(Long id, LocalDateTime at) {
+        return new TaskEventDTO(DELETED, id, null, at, null);
+    }
+
+    public static TaskEventDTO resync(LocalDateTime at) {
+        return new TaskEventDTO(RESYNC, null, null, at, null);
+    }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public LocalDateTime getAt() { return at; }
+    public void setAt(LocalDateTime at) { this.at = at; }
+
+    public TaskResponseDTO getTask() { return task; }
+    public void setTask(TaskResponseDTO task) { this.task = task; }
+}
@@ -0,0 +1,83 @@
+package com.gustavo.taskmanager.dto;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.gustavo.taskmanager.exception.InvalidFieldsException;
+
+// fields=title,status em GET /tasks: só essas colunas saem do banco e do JSON (id vem sempre).
+// A ordem é sempre a de Field, não a da query string: title,status e status,title geram o mesmo SQL.
+public record TaskFieldSet(Set<Field> fields) {
+
+    public enum Field {
+        ID("id"), TITLE("title"), DESCRIPTION("description"), STATUS("status"), PRIORITY("priority"),
+        DUE_DATE("dueDate"), CREATED_AT("createdAt"), UPDATED_AT("updatedAt"), VERSION("version");
+
+        private final String attribute;
+
+        Field(String attribute) {
+            this.attribute = attribute;
+        }
+
+        // Nome do atributo em Task e da propriedade em TaskResponseDTO.
+        public String attribute() {
+            return attribute;
+        }
+
+        Object valueOf(TaskResponseDTO dto) {
+            return switch (this) {
+                case ID -> dto.getId();
+                case TITLE -> dto.getTitle();
+                case DESCRIPTION -> dto.getDescription();
+                case STATUS -> dto.getStatus();
+                case PRIORITY -> dto.getPriority();
+                case DUE_DATE -> dto.getDueDate();
+                case CREATED_AT -> dto.getCreatedAt();
+                case UPDATED_AT -> dto.getUpdatedAt();
+                case VERSION -> dto.getVersion();
+            };
+        }
+    }
+
+    public TaskFieldSet {
+        EnumSet<Field> copy = EnumSet.of(Field.ID);
+        copy.addAll(fields);
+        fields = Collections.unmodifiableSet(copy);
+    }
+
+    // null/vazio: sem projeção, resposta completa.
+    public static TaskFieldSet parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        Set<Field> fields = EnumSet.of(Field.ID);
+        for (String name : value.split(",")) {
+            String attribute = name.trim();
+            if (attribute.isEmpty()) {
+                continue;
+            }
+            fields.add(Arrays.stream(Field.values())
+                    .filter(f -> f.attribute.equals(attribute))
+                    .findFirst()
+                    .orElseThrow(() -> new InvalidFieldsException(attribute)));
+        }
+        return new TaskFieldSet(fields);
+    }
+
+    public boolean contains(Field field) {
+        return fields.contains(field);
+    }
+
+    // Para o caminho full-text, que carrega a entidade inteira: corta só na saída.
+    public Map<String, Object> pick(TaskResponseDTO dto) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (Field field : fields) {
+            row.put(field.attribute, field.valueOf(dto));
+        }
+        return row;
+    }
+}
@@ -0,0 +1,81 @@
+package com.gustavo.taskmanager.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.BindParam;
+
+import com.gustavo.taskmanager.entity.TaskPriority;
+import com.gustavo.taskmanager.entity.TaskStatus;
+
+import io.swagger.v3.oas.annotations.Parameter;
+
+// Filtros de GET /tasks (lista, withTotal=false, cursor e stats). status/priority aceitam vários valores
+// (status=TODO,DOING ou status=TODO&status=DOING); intervalos são inclusivos nas duas pontas e cada
+// ponta é opcional. Imutável e com equals: também serve de chave do cache de stats.
+public record TaskFilterDTO(
+        String q,
+        @BindParam("status") @Parameter(name = "status") Set<TaskStatus> statuses,
+        @BindParam("priority") @Parameter(name = "priority") Set<TaskPriority> priorities,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedTo
+) {
+
+    public static final TaskFilterDTO NONE = of(null, null, null);
+
+    public TaskFilterDTO {
+        q = q == null || q.isBlank() ? null : q.trim();
+        statuses = copy(statuses, TaskStatus.class);
+        priorities = copy(priorities, TaskPriority.class);
+    }
+
+    public static TaskFilterDTO of(String q, TaskStatus status, TaskPriority priority) {
+        return new TaskFilterDTO(q, status == null ? null : Set.of(status), priority == null ? null : Set.of(priority),
+                null, null, null, null, null, null);
+    }
+
+    public boolean hasText() {
+        return q != null;
+    }
+
+    public boolean hasRanges() {
+        return dueFrom != null || dueTo != null || createdFrom != null || createdTo != null
+                || updatedFrom != null || updatedTo != null;
+    }
+
+    public boolean isEmpty() {
+        return !hasText() && !hasRanges() && statuses.isEmpty() && priorities.isEmpty();
+    }
+
+    // Só igualdade em no máximo um status e uma priority: o formato que task_counters responde.
+    public boolean isCountable() {
+        return !hasText() && !hasRanges() && statuses.size() <= 1 && priorities.size() <= 1;
+    }
+
+    public TaskStatus singleStatus() {
+        return statuses.size() == 1 ? statuses.iterator().next() : null;
+    }
+
+    public TaskPriority singlePriority() {
+        return priorities.size() == 1 ? priorities.iterator().next() : null;
+    }
+
+    // "status=" vazio chega como [null]; EnumSet mantém ordem estável para SQL e chave de cache.
+    private static <E extends Enum<E>> Set<E> copy(Collection<E> values, Class<E> type) {
+        EnumSet<E> set = EnumSet.noneOf(type);
+        if (values != null) {
+            values.stream().filter(Objects::nonNull).forEach(set::add);
+        }
+        return Collections.unmodifiableSet(set);
+    }
+}
@@ -0,0 +1,43 @@
+package com.gustavo.taskmanager.dto;
+
+import java.util.Map;
+
+import com.gustavo.taskmanager.entity.TaskPriority;
+import com.gustavo.taskmanager.entity.TaskStatus;
+
+public class TaskStatsDTO {
+
+    private long total;
+    private Map<TaskStatus, Long> byStatus;
+    private Map<TaskPriority, Long> byPriority;
+
+    // overdue: dueDate antes de hoje; dueThisWeek: de hoje até domingo. Ambos ignoram tasks DONE.
+    private long overdue;
+    private long dueThisWeek;
+
+    public TaskStatsDTO() {}
+
+    public TaskStatsDTO(long total, Map<TaskStatus, Long> byStatus, Map<TaskPriority, Long> byPriority,
+                        long overdue, long dueThisWeek) {
+        this.total = total;
+        this.byStatus = byStatus;
+        this.byPriority = byPriority;
+        this.overdue = overdue;
+        this.dueThisWeek = dueThisWeek;
+    }
+
+    public long getTotal() { return total; }
+    public void setTotal(long total) { this.total = total; }
+
+    public Map<TaskStatus, Long> getByStatus() { return byStatus; }
+    public void setByStatus(Map<TaskStatus, Long> byStatus) { this.byStatus = byStatus; }
+
+    public Map<TaskPriority, Long> getByPriority() { return byPriority; }
+    public void setByPriority(Map<TaskPriority, Long> byPriority) { this.byPriority = byPriority; }
+
+    public long getOverdue() { return overdue; }
+    public void setOverdue(long overdue) { this.overdue = overdue; }
+
+    public long getDueThisWeek() { return dueThisWeek; }
+    public void setDueThisWeek(long dueThisWeek) { this.dueThisWeek = dueThisWeek; }
+}
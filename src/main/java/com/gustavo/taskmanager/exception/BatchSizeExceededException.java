@@ -0,0 +1,10 @@
+package com.gustavo.taskmanager.exception;
+
+public class BatchSizeExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public BatchSizeExceededException(int max) {
+        super("Lote vazio ou acima do máximo de " + max + " itens");
+    }
+}
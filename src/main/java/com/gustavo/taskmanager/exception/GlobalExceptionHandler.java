@@ -6,6 +6,8 @@ import java.util.Map;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -44,6 +46,74 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler({ InvalidCursorException.class, InvalidFieldsException.class, BatchSizeExceededException.class })
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ApiError handleBadRequest(RuntimeException ex, HttpServletRequest req) {
+        return new ApiError(
+                LocalDateTime.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                ex.getMessage(),
+                req.getRequestURI(),
+                null
+        );
+    }
+
+    // since mais velho que app.sync.deletion-retention: exclusões no intervalo já foram apagadas.
+    @ExceptionHandler(SyncHistoryExpiredException.class)
+    @ResponseStatus(HttpStatus.GONE)
+    public ApiError handleSyncHistoryExpired(SyncHistoryExpiredException ex, HttpServletRequest req) {
+        return new ApiError(
+                LocalDateTime.now(),
+                HttpStatus.GONE.value(),
+                "Gone",
+                ex.getMessage(),
+                req.getRequestURI(),
+                null
+        );
+    }
+
+    @ExceptionHandler(TaskVersionMismatchException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public ApiError handleVersionMismatch(TaskVersionMismatchException ex, HttpServletRequest req) {
+        return new ApiError(
+                LocalDateTime.now(),
+                HttpStatus.PRECONDITION_FAILED.value(),
+                "Precondition Failed",
+                ex.getMessage(),
+                req.getRequestURI(),
+                null
+        );
+    }
+
+    // Escrita concorrente detectada pelo @Version (ex.: PATCH em lote) sem If-Match do cliente.
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ApiError handleOptimisticLock(ObjectOptimisticLockingFailureException ex, HttpServletRequest req) {
+        return new ApiError(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                "Task alterada por outra requisição; recarregue e tente novamente",
+                req.getRequestURI(),
+                null
+        );
+    }
+
+    // Escrita de task passou do prazo (app.sync.write-timeout-seconds / batch-write-timeout-seconds) e foi desfeita.
+    @ExceptionHandler(TransactionTimedOutException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ApiError handleTransactionTimeout(TransactionTimedOutException ex, HttpServletRequest req) {
+        return new ApiError(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                "Escrita demorou demais e foi desfeita; tente de novo",
+                req.getRequestURI(),
+                null
+        );
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ApiError handleValidation(MethodArgumentNotValidException ex, HttpServletRequest req) {
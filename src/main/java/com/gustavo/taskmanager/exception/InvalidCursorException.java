@@ -0,0 +1,10 @@
+package com.gustavo.taskmanager.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidCursorException() {
+        super("Cursor inválido");
+    }
+}
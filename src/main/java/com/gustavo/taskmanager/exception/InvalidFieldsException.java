@@ -0,0 +1,10 @@
+package com.gustavo.taskmanager.exception;
+
+public class InvalidFieldsException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidFieldsException(String field) {
+        super("Campo inválido em fields: " + field);
+    }
+}
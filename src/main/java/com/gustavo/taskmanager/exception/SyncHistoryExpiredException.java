@@ -0,0 +1,10 @@
+package com.gustavo.taskmanager.exception;
+
+public class SyncHistoryExpiredException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public SyncHistoryExpiredException() {
+        super("since é anterior ao histórico de exclusões; refaça o sync completo sem since");
+    }
+}
@@ -0,0 +1,10 @@
+package com.gustavo.taskmanager.exception;
+
+public class TaskVersionMismatchException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public TaskVersionMismatchException(Long id) {
+        super("Task " + id + " foi alterada por outra requisição (If-Match não confere)");
+    }
+}
@@ -0,0 +1,12 @@
+package com.gustavo.taskmanager.repository;
+
+import java.time.LocalDateTime;
+
+public interface TaskDeletionView {
+
+    Long getId();
+
+    Long getTaskId();
+
+    LocalDateTime getDeletedAt();
+}
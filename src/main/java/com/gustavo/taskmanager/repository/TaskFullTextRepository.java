@@ -0,0 +1,23 @@
+package com.gustavo.taskmanager.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import com.gustavo.taskmanager.dto.TaskFilterDTO;
+import com.gustavo.taskmanager.entity.Task;
+
+public interface TaskFullTextRepository {
+
+    // Ordenado por ts_rank, id; o Sort do pageable é ignorado.
+    Page<Task> fullTextSearch(String tsQuery, TaskFilterDTO filter, Pageable pageable);
+
+    Slice<Task> fullTextSearchSlice(String tsQuery, TaskFilterDTO filter, Pageable pageable);
+
+    // O GROUP BY de /tasks/stats com o mesmo WHERE da busca: totais batem com os da lista.
+    List<TaskStatsRepository.StatsRow> fullTextCountGrouped(String tsQuery, TaskFilterDTO filter,
+                                                            LocalDate today, LocalDate weekEnd);
+}
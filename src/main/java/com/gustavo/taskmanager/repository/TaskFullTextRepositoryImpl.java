@@ -0,0 +1,133 @@
+package com.gustavo.taskmanager.repository;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import com.gustavo.taskmanager.dto.TaskFilterDTO;
+import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.entity.TaskPriority;
+import com.gustavo.taskmanager.entity.TaskStatus;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+// Full-text do PostgreSQL (search_vector, migration V4) montado só com os filtros enviados: cada combinação
+// vira um SQL próprio, com plano próprio, em vez de um genérico "(:x is null or ...)" que ignora os índices.
+class TaskFullTextRepositoryImpl implements TaskFullTextRepository {
+
+    private final EntityManager entityManager;
+
+    TaskFullTextRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<Task> fullTextSearch(String tsQuery, TaskFilterDTO filter, Pageable pageable) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        String where = where(tsQuery, filter, params);
+
+        List<Task> content = page(where, params, pageable.getOffset(), pageable.getPageSize());
+        Query count = entityManager.createNativeQuery("select count(*) from tasks t" + where);
+        params.forEach(count::setParameter);
+        long total = ((Number) count.getSingleResult()).longValue();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    public Slice<Task> fullTextSearchSlice(String tsQuery, TaskFilterDTO filter, Pageable pageable) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        String where = where(tsQuery, filter, params);
+
+        List<Task> rows = page(where, params, pageable.getOffset(), pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TaskStatsRepository.StatsRow> fullTextCountGrouped(String tsQuery, TaskFilterDTO filter,
+                                                                   LocalDate today, LocalDate weekEnd) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        String where = where(tsQuery, filter, params);
+
+        Query query = entityManager.createNativeQuery("""
+                select t.status, t.priority, count(*),
+                       sum(case when t.status <> 'DONE' and t.due_date < :today then 1 else 0 end),
+                       sum(case when t.status <> 'DONE' and t.due_date between :today and :weekEnd then 1 else 0 end)
+                from tasks t%s
+                group by t.status, t.priority
+                """.formatted(where));
+        params.forEach(query::setParameter);
+        query.setParameter("today", today);
+        query.setParameter("weekEnd", weekEnd);
+
+        return ((List<Object[]>) query.getResultList()).stream()
+                .map(r -> new TaskStatsRepository.StatsRow(
+                        TaskStatus.valueOf((String) r[0]),
+                        TaskPriority.valueOf((String) r[1]),
+                        ((Number) r[2]).longValue(),
+                        ((Number) r[3]).longValue(),
+                        ((Number) r[4]).longValue()))
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Task> page(String where, Map<String, Object> params, long offset, int limit) {
+        Query query = entityManager.createNativeQuery("""
+                select t.* from tasks t%s
+                order by ts_rank(t.search_vector, to_tsquery('simple', :q)) desc, t.id desc
+                """.formatted(where), Task.class);
+        params.forEach(query::setParameter);
+        query.setFirstResult((int) offset);
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    private static String where(String tsQuery, TaskFilterDTO filter, Map<String, Object> params) {
+        StringBuilder sql = new StringBuilder(" where t.search_vector @@ to_tsquery('simple', :q)");
+        params.put("q", tsQuery);
+
+        in(sql, params, "t.status", "statuses", filter.statuses());
+        in(sql, params, "t.priority", "priorities", filter.priorities());
+        range(sql, params, "t.due_date", "due", filter.dueFrom(), filter.dueTo());
+        range(sql, params, "t.created_at", "created", filter.createdFrom(), filter.createdTo());
+        range(sql, params, "t.updated_at", "updated", filter.updatedFrom(), filter.updatedTo());
+        return sql.toString();
+    }
+
+    private static void in(StringBuilder sql, Map<String, Object> params, String column, String name,
+                           Set<? extends Enum<?>> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        if (values.size() == 1) {
+            sql.append(" and ").append(column).append(" = :").append(name);
+            params.put(name, values.iterator().next().name());
+            return;
+        }
+        sql.append(" and ").append(column).append(" in (:").append(name).append(")");
+        params.put(name, values.stream().map(Enum::name).toList());
+    }
+
+    private static void range(StringBuilder sql, Map<String, Object> params, String column, String name,
+                              Object from, Object to) {
+        if (from != null) {
+            sql.append(" and ").append(column).append(" >= :").append(name).append("From");
+            params.put(name + "From", from);
+        }
+        if (to != null) {
+            sql.append(" and ").append(column).append(" <= :").append(name).append("To");
+            params.put(name + "To", to);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.gustavo.taskmanager.repository;
+
+import java.util.Map;
+import java.util.Optional;
+
+import com.gustavo.taskmanager.dto.TaskResponseDTO;
+
+public interface TaskPartialUpdateRepository {
+
+    // changes: atributo da entidade (title, description, status, priority, dueDate) -> novo valor.
+    // expectedVersion != null só atualiza se a versão atual for essa.
+    // Vazio quando nenhuma linha foi atualizada (id inexistente ou versão diferente).
+    Optional<TaskResponseDTO> updateColumns(Long id, Long expectedVersion, Map<String, Object> changes);
+}
@@ -0,0 +1,109 @@
+package com.gustavo.taskmanager.repository;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import com.gustavo.taskmanager.dto.TaskResponseDTO;
+import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.entity.TaskPriority;
+import com.gustavo.taskmanager.entity.TaskStatus;
+
+// UPDATE só das colunas enviadas, sem SELECT prévio nem dirty checking do Hibernate.
+// No PostgreSQL o RETURNING devolve a linha atualizada na mesma ida ao banco.
+class TaskPartialUpdateRepositoryImpl implements TaskPartialUpdateRepository {
+
+    private static final Map<String, String> COLUMNS = Map.of(
+            "title", "title",
+            "description", "description",
+            "status", "status",
+            "priority", "priority",
+            "dueDate", "due_date"
+    );
+
+    private static final String SELECTED_COLUMNS = "id, title, description, status, priority, due_date, created_at, updated_at, version";
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final DataSource dataSource;
+    private volatile Boolean supportsReturning;
+
+    TaskPartialUpdateRepositoryImpl(NamedParameterJdbcTemplate jdbc, DataSource dataSource) {
+        this.jdbc = jdbc;
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public Optional<TaskResponseDTO> updateColumns(Long id, Long expectedVersion, Map<String, Object> changes) {
+        MapSqlParameterSource params = new MapSqlParameterSource("id", id);
+        StringBuilder sql = new StringBuilder("update tasks set ");
+
+        for (Map.Entry<String, Object> change : changes.entrySet()) {
+            String column = COLUMNS.get(change.getKey());
+            if (column == null) {
+                throw new IllegalArgumentException("Campo não atualizável: " + change.getKey());
+            }
+            Object value = change.getValue() instanceof Enum<?> e ? e.name() : change.getValue();
+            sql.append(column).append(" = :").append(change.getKey()).append(", ");
+            params.addValue(change.getKey(), value);
+        }
+        sql.append("updated_at = :updatedAt, version = version + 1 where id = :id");
+        params.addValue("updatedAt", Task.now());
+        if (expectedVersion != null) {
+            sql.append(" and version = :expectedVersion");
+            params.addValue("expectedVersion", expectedVersion);
+        }
+
+        if (supportsReturning()) {
+            List<TaskResponseDTO> rows = jdbc.query(sql + " returning " + SELECTED_COLUMNS, params, (rs, n) -> map(rs));
+            return rows.stream().findFirst();
+        }
+
+        if (jdbc.update(sql.toString(), params) == 0) {
+            return Optional.empty();
+        }
+        return jdbc.query("select " + SELECTED_COLUMNS + " from tasks where id = :id", params, (rs, n) -> map(rs))
+                .stream().findFirst();
+    }
+
+    private boolean supportsReturning() {
+        Boolean cached = supportsReturning;
+        if (cached == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+                cached = "PostgreSQL".equalsIgnoreCase(product);
+            } catch (MetaDataAccessException e) {
+                cached = false;
+            }
+            supportsReturning = cached;
+        }
+        return cached;
+    }
+
+    private static TaskResponseDTO map(ResultSet rs) throws SQLException {
+        TaskResponseDTO dto = new TaskResponseDTO();
+        dto.setId(rs.getLong("id"));
+        dto.setTitle(rs.getString("title"));
+        dto.setDescription(rs.getString("description"));
+        String status = rs.getString("status");
+        String priority = rs.getString("priority");
+        dto.setStatus(status == null ? null : TaskStatus.valueOf(status));
+        dto.setPriority(priority == null ? null : TaskPriority.valueOf(priority));
+        dto.setDueDate(rs.getObject("due_date", LocalDate.class));
+        dto.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+        dto.setUpdatedAt(rs.getObject("updated_at", LocalDateTime.class));
+        dto.setVersion(rs.getLong("version"));
+        return dto;
+    }
+}
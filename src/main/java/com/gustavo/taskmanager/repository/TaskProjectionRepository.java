@@ -0,0 +1,19 @@
+package com.gustavo.taskmanager.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.gustavo.taskmanager.dto.TaskFieldSet;
+import com.gustavo.taskmanager.entity.Task;
+
+public interface TaskProjectionRepository {
+
+    // select <só os campos pedidos> from tasks where <filtro> order by <sort> offset/limit;
+    // cada linha vira um mapa atributo -> valor na ordem de TaskFieldSet.Field.
+    List<Map<String, Object>> findFields(Specification<Task> filter, Set<TaskFieldSet.Field> fields,
+                                         Sort sort, long offset, int limit);
+}
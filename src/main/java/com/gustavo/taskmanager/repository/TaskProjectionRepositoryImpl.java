@@ -0,0 +1,66 @@
+package com.gustavo.taskmanager.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.gustavo.taskmanager.dto.TaskFieldSet;
+import com.gustavo.taskmanager.entity.Task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+// Tuple query em vez de entidade: nada de description (500 chars) nem snapshot no contexto de
+// persistência quando o quadro só pede id, title, status e priority.
+class TaskProjectionRepositoryImpl implements TaskProjectionRepository {
+
+    private final EntityManager entityManager;
+
+    TaskProjectionRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Map<String, Object>> findFields(Specification<Task> filter, Set<TaskFieldSet.Field> fields,
+                                                Sort sort, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+
+        List<Selection<?>> columns = new ArrayList<>(fields.size());
+        for (TaskFieldSet.Field field : fields) {
+            columns.add(root.get(field.attribute()).alias(field.attribute()));
+        }
+        query.multiselect(columns);
+
+        Predicate where = filter == null ? null : filter.toPredicate(root, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setFirstResult((int) offset)
+                .setMaxResults(limit)
+                .getResultList().stream()
+                .map(t -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (TaskFieldSet.Field field : fields) {
+                        row.put(field.attribute(), t.get(field.attribute()));
+                    }
+                    return row;
+                })
+                .toList();
+    }
+}
@@ -1,43 +1,87 @@
 package com.gustavo.taskmanager.repository;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.gustavo.taskmanager.entity.Task;
-import com.gustavo.taskmanager.entity.TaskPriority;
-import com.gustavo.taskmanager.entity.TaskStatus;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+import jakarta.persistence.QueryHint;
+
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskPartialUpdateRepository, TaskStatsRepository, TaskFullTextRepository, TaskProjectionRepository {
 
-    @Query("""
-        select t from Task t
+    // task_counters (no máximo 9 linhas) + deltas ainda não consolidados, gravados por trigger (PostgreSQL V8).
+    // Um único SELECT: o snapshot vê os deltas antes ou depois de uma consolidação, nunca as duas coisas.
+    @Query(value = """
+        select coalesce(sum(x.n), 0) from (
+          select c.status, c.priority, c.task_count as n from task_counters c
+          union all
+          select d.status, d.priority, d.delta from task_counter_deltas d
+        ) x
         where
-          (:status is null or t.status = :status)
-          and (:priority is null or t.priority = :priority)
-          and (
-            lower(t.title) like :q
-            or lower(coalesce(t.description, '')) like :q
-          )
-    """)
-    Page<Task> search(
-            @Param("q") String q,
-            @Param("status") TaskStatus status,
-            @Param("priority") TaskPriority priority,
-            Pageable pageable
-    );
+          (cast(:status as varchar) is null or x.status = cast(:status as varchar))
+          and (cast(:priority as varchar) is null or x.priority = cast(:priority as varchar))
+    """, nativeQuery = true)
+    long countFromCounters(@Param("status") String status, @Param("priority") String priority);
+
+    // Uma réplica consolida por vez; as outras pulam a rodada. Lock de transação, solto no commit.
+    @Query(value = "select pg_try_advisory_xact_lock(hashtext('task_counter_deltas'))", nativeQuery = true)
+    boolean tryLockCounterFold();
+
+    // Apaga os deltas visíveis e soma em task_counters, em ordem fixa de chave.
+    @Modifying
+    @Query(value = """
+        with moved as (delete from task_counter_deltas returning status, priority, delta)
+        insert into task_counters (status, priority, task_count)
+        select status, priority, sum(delta) from moved group by status, priority order by status, priority
+        on conflict (status, priority) do update set task_count = task_counters.task_count + excluded.task_count
+    """, nativeQuery = true)
+    int foldCounterDeltas();
 
-    @Query("""
-        select t from Task t
+    // Tombstones do feed de sync: grava só os ids que existem, no mesmo instante do DELETE.
+    @Modifying
+    @Query(value = "insert into task_deletions (task_id, deleted_at) select t.id, :at from tasks t where t.id in (:ids)",
+            nativeQuery = true)
+    int logDeletions(@Param("ids") Collection<Long> ids, @Param("at") LocalDateTime at);
+
+    // Keyset sobre (deleted_at, id), mesmo formato do feed de tasks em (updated_at, id).
+    @Query(value = """
+        select d.id as id, d.task_id as taskId, d.deleted_at as deletedAt from task_deletions d
         where
-          (:status is null or t.status = :status)
-          and (:priority is null or t.priority = :priority)
-    """)
-    Page<Task> filterOnly(
-            @Param("status") TaskStatus status,
-            @Param("priority") TaskPriority priority,
-            Pageable pageable
+          (d.deleted_at > :at or (d.deleted_at = :at and d.id > :id))
+          and d.deleted_at <= :until
+        order by d.deleted_at, d.id
+        limit :limit
+    """, nativeQuery = true)
+    List<TaskDeletionView> findDeletionsAfter(
+            @Param("at") LocalDateTime at,
+            @Param("id") long id,
+            @Param("until") LocalDateTime until,
+            @Param("limit") int limit
     );
+
+    @Modifying
+    @Query(value = "delete from task_deletions where deleted_at < :before", nativeQuery = true)
+    int purgeDeletionsBefore(@Param("before") LocalDateTime before);
+
+    @Query("select t.id from Task t where t.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Cursor forward-only no servidor (PostgreSQL usa fetch size dentro de transação); somente leitura, sem snapshot.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from Task t order by t.id")
+    Stream<Task> streamAll();
 }
@@ -0,0 +1,92 @@
+package com.gustavo.taskmanager.repository;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.gustavo.taskmanager.dto.TaskFilterDTO;
+import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.entity.TaskPriority;
+import com.gustavo.taskmanager.entity.TaskStatus;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {}
+
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        if (status == null) return null;
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Task> hasPriority(TaskPriority priority) {
+        if (priority == null) return null;
+        return (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    // Um valor vira "=" (mesmo SQL de antes); vários, IN. Vazio não emite predicado.
+    public static Specification<Task> statusIn(Set<TaskStatus> statuses) {
+        if (statuses.isEmpty()) return null;
+        if (statuses.size() == 1) return hasStatus(statuses.iterator().next());
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Task> priorityIn(Set<TaskPriority> priorities) {
+        if (priorities.isEmpty()) return null;
+        if (priorities.size() == 1) return hasPriority(priorities.iterator().next());
+        return (root, query, cb) -> root.get("priority").in(priorities);
+    }
+
+    // Intervalo inclusivo; ponta ausente não entra no SQL (nada de "(:from is null or ...)").
+    public static <T extends Comparable<? super T>> Specification<Task> inRange(String attribute, T from, T to) {
+        if (from == null && to == null) return null;
+        if (to == null) return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(attribute), from);
+        if (from == null) return (root, query, cb) -> cb.lessThanOrEqualTo(root.get(attribute), to);
+        return (root, query, cb) -> cb.between(root.get(attribute), from, to);
+    }
+
+    // Todos os filtros menos o texto (LIKE ou full-text fica a cargo de quem chama).
+    public static Specification<Task> matching(TaskFilterDTO filter) {
+        return Specification.allOf(
+                statusIn(filter.statuses()),
+                priorityIn(filter.priorities()),
+                inRange("dueDate", filter.dueFrom(), filter.dueTo()),
+                inRange("createdAt", filter.createdFrom(), filter.createdTo()),
+                inRange("updatedAt", filter.updatedFrom(), filter.updatedTo())
+        );
+    }
+
+    public static Specification<Task> matchesText(String like) {
+        if (like == null) return null;
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("title")), like),
+                cb.like(cb.lower(cb.coalesce(root.get("description"), "")), like)
+        );
+    }
+
+    // Keyset sobre (createdAt, id): segue o índice idx_tasks_created_at_id, sem OFFSET.
+    public static Specification<Task> createdBefore(LocalDateTime createdAt, Long id) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), createdAt),
+                cb.and(cb.equal(root.get("createdAt"), createdAt), cb.lessThan(root.get("id"), id))
+        );
+    }
+
+    public static Specification<Task> createdAfter(LocalDateTime createdAt, Long id) {
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("createdAt"), createdAt),
+                cb.and(cb.equal(root.get("createdAt"), createdAt), cb.greaterThan(root.get("id"), id))
+        );
+    }
+
+    // Feed de mudanças: keyset em (updatedAt, id), limitado a "until" para não passar do watermark.
+    public static Specification<Task> updatedBetween(LocalDateTime updatedAt, Long id, LocalDateTime until) {
+        return (root, query, cb) -> cb.and(
+                cb.or(
+                        cb.greaterThan(root.get("updatedAt"), updatedAt),
+                        cb.and(cb.equal(root.get("updatedAt"), updatedAt), cb.greaterThan(root.get("id"), id))
+                ),
+                cb.lessThanOrEqualTo(root.get("updatedAt"), until)
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.gustavo.taskmanager.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.entity.TaskPriority;
+import com.gustavo.taskmanager.entity.TaskStatus;
+
+public interface TaskStatsRepository {
+
+    // Uma linha por (status, priority) presente no filtro; overdue/dueThisWeek já contados por grupo.
+    List<StatsRow> countGrouped(Specification<Task> filter, LocalDate today, LocalDate weekEnd);
+
+    record StatsRow(TaskStatus status, TaskPriority priority, long count, long overdue, long dueThisWeek) {}
+}
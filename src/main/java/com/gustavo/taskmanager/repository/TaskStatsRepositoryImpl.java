@@ -0,0 +1,72 @@
+package com.gustavo.taskmanager.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.entity.TaskPriority;
+import com.gustavo.taskmanager.entity.TaskStatus;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+// select status, priority, count(*), sum(case overdue), sum(case due this week)
+// from tasks where <filtro> group by status, priority
+// Um único GROUP BY: os totais por status e por prioridade saem somando as linhas no service.
+class TaskStatsRepositoryImpl implements TaskStatsRepository {
+
+    private final EntityManager entityManager;
+
+    TaskStatsRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<StatsRow> countGrouped(Specification<Task> filter, LocalDate today, LocalDate weekEnd) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+
+        Expression<TaskStatus> status = root.get("status");
+        Expression<TaskPriority> priority = root.get("priority");
+        Expression<LocalDate> dueDate = root.get("dueDate");
+        Predicate open = cb.notEqual(status, TaskStatus.DONE);
+
+        query.multiselect(
+                status,
+                priority,
+                cb.count(root),
+                cb.sum(cb.<Integer>selectCase()
+                        .when(cb.and(open, cb.lessThan(dueDate, today)), 1)
+                        .otherwise(0)),
+                cb.sum(cb.<Integer>selectCase()
+                        .when(cb.and(open, cb.between(dueDate, today, weekEnd)), 1)
+                        .otherwise(0)));
+
+        Predicate where = filter == null ? null : filter.toPredicate(root, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+        query.groupBy(status, priority);
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(t -> new StatsRow(
+                        t.get(0, TaskStatus.class),
+                        t.get(1, TaskPriority.class),
+                        t.get(2, Long.class),
+                        toLong(t.get(3)),
+                        toLong(t.get(4))))
+                .toList();
+    }
+
+    private static long toLong(Object sum) {
+        return sum == null ? 0L : ((Number) sum).longValue();
+    }
+}
@@ -0,0 +1,90 @@
+package com.gustavo.taskmanager.security;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.gustavo.taskmanager.config.RateLimitProperties;
+
+// Contadores em login_attempts (PostgreSQL): o limite vale para o conjunto de réplicas, não por JVM.
+// Um único upsert por tentativa faz a troca de janela e o incremento de forma atômica.
+@Component
+@ConditionalOnProperty(prefix = "app.rate-limit", name = "store", havingValue = "jdbc")
+public class JdbcLoginRateLimiter implements LoginRateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcLoginRateLimiter.class);
+
+    private static final int MAX_KEY_LENGTH = 100; // client_key VARCHAR(100); X-Forwarded-For vem do cliente
+
+    // No SET, login_attempts.* ainda são os valores antigos da linha.
+    private static final String UPSERT = """
+            insert into login_attempts (client_key, window_id, previous_attempts, attempts)
+            values (:key, :windowId, 0, 1)
+            on conflict (client_key) do update set
+                previous_attempts = case
+                    when login_attempts.window_id = :windowId then login_attempts.previous_attempts
+                    when login_attempts.window_id = :windowId - 1 then login_attempts.attempts
+                    else 0 end,
+                attempts = case
+                    when login_attempts.window_id = :windowId then login_attempts.attempts + 1
+                    else 1 end,
+                window_id = :windowId
+            returning previous_attempts, attempts
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final LoginRateLimiter fallback;
+    private final long windowMillis;
+    private final int maxAttempts;
+    private final AtomicBoolean degraded = new AtomicBoolean();
+
+    public JdbcLoginRateLimiter(NamedParameterJdbcTemplate jdbc, RateLimitProperties props) {
+        this.jdbc = jdbc;
+        this.fallback = new LocalLoginRateLimiter(props);
+        this.windowMillis = props.getWindow().toMillis();
+        this.maxAttempts = props.getMaxAttempts();
+    }
+
+    @Override
+    public boolean allow(String key) {
+        long now = System.currentTimeMillis();
+        long windowId = now / windowMillis;
+        String column = key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+        MapSqlParameterSource params = new MapSqlParameterSource("key", column).addValue("windowId", windowId);
+
+        try {
+            Boolean allowed = jdbc.queryForObject(UPSERT, params, (rs, n) -> LoginRateLimiter.withinLimit(
+                    rs.getInt("previous_attempts"), rs.getInt("attempts"), now, windowMillis, maxAttempts));
+            if (degraded.compareAndSet(true, false)) {
+                log.info("Rate limit via banco restabelecido");
+            }
+            return allowed;
+        } catch (DataAccessException e) {
+            // Banco fora: o login não depende dele, então limita localmente em vez de liberar tudo.
+            // Um aviso por queda, não um por tentativa.
+            if (degraded.compareAndSet(false, true)) {
+                log.warn("Rate limit via banco indisponível, usando contador local até voltar: {}", e.getMessage());
+            }
+            return fallback.allow(key);
+        }
+    }
+
+    // Linhas de janelas que já não pesam no cálculo, a cada janela (e não pelo volume de tentativas:
+    // uma rajada de IPs distintos seguida de silêncio deixaria tudo na tabela). Todas as réplicas rodam.
+    @Scheduled(fixedDelayString = "${app.rate-limit.window:1m}")
+    public void purge() {
+        try {
+            jdbc.update("delete from login_attempts where window_id < :windowId - 1",
+                    new MapSqlParameterSource("windowId", System.currentTimeMillis() / windowMillis));
+        } catch (DataAccessException e) {
+            log.debug("Limpeza de login_attempts adiada: {}", e.getMessage()); // a queda já foi avisada em allow()
+        }
+    }
+}
@@ -35,7 +35,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
             if (username != null) {
                 org.springframework.security.core.context.SecurityContextHolder.getContext()
-                        .setAuthentication(new JwtAuthentication(username));
+                        .setAuthentication(new JwtAuthentication(username, token));
             }
         }
 
@@ -10,13 +10,24 @@ public class JwtAuthentication extends AbstractAuthenticationToken {
     private static final long serialVersionUID = 1L;
 
     private final String username;
+    private final String token;
 
     public JwtAuthentication(String username) {
+        this(username, null);
+    }
+
+    public JwtAuthentication(String username, String token) {
         super(Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
         this.username = username;
+        this.token = token;
         setAuthenticated(true);
     }
 
+    // Identifica o cliente (um login), não o usuário: chave da janela read-your-writes.
+    public String getToken() {
+        return token;
+    }
+
     @Override
     public Object getCredentials() {
         return "";
@@ -1,51 +1,101 @@
 package com.gustavo.taskmanager.security;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.function.LongSupplier;
 
+import javax.crypto.SecretKey;
+
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.gustavo.taskmanager.config.JwtProperties;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
 @Service
 public class JwtService {
 
+    private static final int MAX_CACHED_TOKENS = 10_000;
+
     private final JwtProperties props;
 
+    // Chave e parser são imutáveis e thread-safe: montados uma vez, não a cada requisição.
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final LongSupplier clock;
+
+    // Token já validado -> subject até o "exp": requisições repetidas pulam HMAC e parse do JSON.
+    final Cache<String, ValidatedToken> validated;
+
+    @Autowired
     public JwtService(JwtProperties props) {
+        this(props, System::currentTimeMillis);
+    }
+
+    JwtService(JwtProperties props, LongSupplier clock) {
         this.props = props;
+        this.clock = clock;
+        this.key = props.getSecret() == null ? null : Keys.hmacShaKeyFor(props.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = key == null ? null
+                : Jwts.parser().verifyWith(key).clock(() -> new Date(clock.getAsLong())).build();
+        this.validated = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_TOKENS)
+                .expireAfter(Expiry.<String, ValidatedToken>creating(
+                        (token, v) -> Duration.ofMillis(Math.max(0, v.expiresAtMillis() - clock.getAsLong()))))
+                .build();
     }
 
     public String generateToken(String username) {
-        Instant now = Instant.now();
+        if (key == null) {
+            throw new IllegalStateException("app.jwt.secret não configurado");
+        }
+
+        Instant now = Instant.ofEpochMilli(clock.getAsLong());
         Instant exp = now.plus(props.getExpirationMinutes(), ChronoUnit.MINUTES);
 
         return Jwts.builder()
                 .subject(username)
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(exp))
-                .signWith(Keys.hmacShaKeyFor(props.getSecret().getBytes(StandardCharsets.UTF_8)))
+                .signWith(key)
                 .compact();
     }
 
     public String validateAndGetSubject(String token) {
+        ValidatedToken cached = validated.getIfPresent(token);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > clock.getAsLong()) {
+                return cached.subject();
+            }
+            validated.invalidate(token);
+            return null;
+        }
+
+        if (parser == null) {
+            return null;
+        }
+
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(Keys.hmacShaKeyFor(props.getSecret().getBytes(StandardCharsets.UTF_8)))
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parser.parseSignedClaims(token).getPayload();
 
+            if (claims.getExpiration() != null) {
+                validated.put(token, new ValidatedToken(claims.getSubject(), claims.getExpiration().getTime()));
+            }
             return claims.getSubject();
         } catch (Exception e) {
             return null;
         }
     }
-}
 
+    record ValidatedToken(String subject, long expiresAtMillis) {}
+}
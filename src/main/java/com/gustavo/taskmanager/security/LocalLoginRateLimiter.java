@@ -0,0 +1,65 @@
+package com.gustavo.taskmanager.security;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gustavo.taskmanager.config.RateLimitProperties;
+
+@Component
+@ConditionalOnProperty(prefix = "app.rate-limit", name = "store", havingValue = "local", matchIfMissing = true)
+public class LocalLoginRateLimiter implements LoginRateLimiter {
+
+    private final Cache<String, Window> windows;
+    private final long windowMillis;
+    private final int maxAttempts;
+    private final LongSupplier clock;
+
+    @Autowired
+    public LocalLoginRateLimiter(RateLimitProperties props) {
+        this(props, System::currentTimeMillis);
+    }
+
+    LocalLoginRateLimiter(RateLimitProperties props, LongSupplier clock) {
+        this.windowMillis = props.getWindow().toMillis();
+        this.maxAttempts = props.getMaxAttempts();
+        this.clock = clock;
+        // Depois de duas janelas sem tentativas a chave não influencia mais nada e pode sair.
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(props.getMaxKeys())
+                .expireAfterAccess(Duration.ofMillis(2 * windowMillis))
+                .build();
+    }
+
+    @Override
+    public boolean allow(String key) {
+        long now = clock.getAsLong();
+        Window w = windows.get(key, k -> new Window());
+        synchronized (w) {
+            return w.record(now, windowMillis, maxAttempts);
+        }
+    }
+
+    // Estado mutável e primitivo: a mesma instância é reaproveitada em todas as tentativas da chave.
+    private static final class Window {
+        private long windowId = Long.MIN_VALUE;
+        private int previous;
+        private int current;
+
+        boolean record(long now, long windowMillis, int maxAttempts) {
+            long id = now / windowMillis;
+            if (id != windowId) {
+                previous = id == windowId + 1 ? current : 0;
+                current = 0;
+                windowId = id;
+            }
+            if (current < Integer.MAX_VALUE) current++;
+            return LoginRateLimiter.withinLimit(previous, current, now, windowMillis, maxAttempts);
+        }
+    }
+}
@@ -1,31 +1,13 @@
 package com.gustavo.taskmanager.security;
 
-import java.time.Instant;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+// Janela deslizante aproximada: tentativas da janela atual + as da anterior, proporcionalmente
+// ao quanto dela ainda está dentro dos últimos "window" ms. Toda tentativa conta, inclusive as bloqueadas.
+public interface LoginRateLimiter {
 
-import org.springframework.stereotype.Component;
+    boolean allow(String key);
 
-@Component
-public class LoginRateLimiter {
-
-    private static final int MAX_ATTEMPTS = 5;
-    private static final long WINDOW_MILLIS = 60_000L;
-
-    private final Map<String, Window> windows = new ConcurrentHashMap<>();
-
-    public boolean allow(String key) {
-        long now = Instant.now().toEpochMilli();
-
-        Window w = windows.compute(key, (k, current) -> {
-            if (current == null || now - current.windowStart >= WINDOW_MILLIS) {
-                return new Window(now, 1);
-            }
-            return new Window(current.windowStart, current.attempts + 1);
-        });
-
-        return w.attempts <= MAX_ATTEMPTS;
+    static boolean withinLimit(int previous, int current, long now, long windowMillis, int maxAttempts) {
+        double previousWeight = 1.0 - (double) (now % windowMillis) / windowMillis;
+        return previous * previousWeight + current <= maxAttempts;
     }
-
-    private record Window(long windowStart, int attempts) {}
 }
@@ -0,0 +1,201 @@
+package com.gustavo.taskmanager.service;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gustavo.taskmanager.dto.TaskEventDTO;
+import com.gustavo.taskmanager.entity.Task;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Leva os eventos de task às outras réplicas via LISTEN/NOTIFY. O NOTIFY sai dentro da transação da
+// escrita, então o PostgreSQL só entrega se ela commitar; roda num savepoint, para que uma falha dele
+// não aborte a transação e derrube a escrita. Cada instância ignora o que ela mesma enviou
+// (o TaskEventBus local já recebeu) e repassa o resto ao bus. Notificações perdidas durante uma
+// reconexão não voltam: o cliente recupera por GET /tasks/changes.
+@Component
+@ConditionalOnProperty(prefix = "app.stream", name = "bridge", havingValue = "postgres")
+public class PgTaskEventBridge {
+
+    private static final Logger log = LoggerFactory.getLogger(PgTaskEventBridge.class);
+
+    static final String CHANNEL = "task_events";
+    private static final String SAVEPOINT = "task_events_notify";
+
+    private static final int POLL_MILLIS = 10_000;
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+    // O PostgreSQL recusa payload a partir de 8000 bytes.
+    static final int MAX_PAYLOAD_BYTES = 7_999;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final DataSourceProperties dataSource;
+    private final TaskEventBus bus;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher events;
+    private final String origin = UUID.randomUUID().toString();
+
+    private volatile boolean running;
+    private Thread listener;
+
+    public PgTaskEventBridge(NamedParameterJdbcTemplate jdbc, DataSourceProperties dataSource,
+                             TaskEventBus bus, ObjectMapper objectMapper, ApplicationEventPublisher events) {
+        this.jdbc = jdbc;
+        this.dataSource = dataSource;
+        this.bus = bus;
+        this.objectMapper = objectMapper;
+        this.events = events;
+    }
+
+    // Eventos da mesma transação (um lote de /tasks/batch gera milhares) vão num único NOTIFY, enviado no
+    // beforeCommit. Fora de transação (create) sai na hora.
+    @EventListener
+    public void onTaskEvent(TaskEventDTO event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            send(List.of(event), false);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<TaskEventDTO> pending = (List<TaskEventDTO>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<TaskEventDTO> buffer = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    send(buffer, true);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PgTaskEventBridge.this);
+                }
+            });
+            pending = buffer;
+        }
+        pending.add(event);
+    }
+
+    // Payload: "<origin>|<json array>". Acima de 8000 bytes (limite do NOTIFY) vai só um evento resync:
+    // as outras réplicas avisam seus assinantes, que recuperam o intervalo por GET /tasks/changes.
+    // Dentro da transação, um erro do pg_notify deixaria a transação abortada no PostgreSQL e o commit
+    // falharia; o savepoint isola o NOTIFY, e a escrita commita mesmo sem avisar as outras réplicas.
+    void send(List<TaskEventDTO> events, boolean inTransaction) {
+        if (events.isEmpty()) {
+            return;
+        }
+        String payload;
+        try {
+            payload = origin + "|" + objectMapper.writeValueAsString(events);
+            if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+                payload = origin + "|" + objectMapper.writeValueAsString(List.of(TaskEventDTO.resync(Task.now())));
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("{} evento(s) de task não enviados às outras réplicas: {}", events.size(), e.getMessage());
+            return;
+        }
+        if (inTransaction) {
+            jdbc.update("savepoint " + SAVEPOINT, EmptySqlParameterSource.INSTANCE);
+        }
+        try {
+            jdbc.query("select pg_notify(:channel, :payload)",
+                    new MapSqlParameterSource("channel", CHANNEL).addValue("payload", payload), rs -> null);
+        } catch (DataAccessException e) {
+            log.warn("{} evento(s) de task não enviados às outras réplicas: {}", events.size(), e.getMessage());
+            if (inTransaction) {
+                jdbc.update("rollback to savepoint " + SAVEPOINT, EmptySqlParameterSource.INSTANCE);
+            }
+            return;
+        }
+        if (inTransaction) {
+            jdbc.update("release savepoint " + SAVEPOINT, EmptySqlParameterSource.INSTANCE);
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        listener = Thread.ofPlatform().name("task-events-listen").daemon().start(this::listen);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        listener.interrupt();
+    }
+
+    // Conexão própria, fora do Hikari: fica presa no LISTEN enquanto a aplicação estiver de pé.
+    private void listen() {
+        long backoff = 1_000;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSource.determineUrl(), dataSource.determineUsername(), dataSource.determinePassword());
+                 Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + CHANNEL);
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                backoff = 1_000;
+
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications(POLL_MILLIS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        receive(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("LISTEN {} caiu, reconectando em {} ms: {}", CHANNEL, backoff, e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    return;
+                }
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    void receive(String payload) {
+        int separator = payload.indexOf('|');
+        if (separator < 0 || payload.startsWith(origin + "|")) {
+            return;
+        }
+        try {
+            for (TaskEventDTO event : objectMapper.readValue(payload.substring(separator + 1), TaskEventDTO[].class)) {
+                bus.publish(event);
+                events.publishEvent(new RemoteTaskEvent(event));
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("Notificação inválida em {}: {}", CHANNEL, e.getMessage());
+        }
+    }
+}
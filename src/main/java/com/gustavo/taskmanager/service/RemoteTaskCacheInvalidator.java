@@ -0,0 +1,33 @@
+package com.gustavo.taskmanager.service;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.gustavo.taskmanager.config.CacheConfig;
+
+// Escritas de outras réplicas não passam pelos @CachePut/@CacheEvict do TaskService daqui: cada RemoteTaskEvent
+// tira a task do cache "tasks", e um resync (ou evento sem id) esvazia o cache inteiro.
+@Component
+public class RemoteTaskCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    public RemoteTaskCacheInvalidator(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @EventListener
+    public void onRemoteTaskEvent(RemoteTaskEvent remote) {
+        Cache tasks = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        if (tasks == null) {
+            return;
+        }
+        if (remote.isResync()) {
+            tasks.clear();
+        } else {
+            tasks.evict(remote.event().getId());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.gustavo.taskmanager.service;
+
+import com.gustavo.taskmanager.dto.TaskEventDTO;
+
+// Evento de task commitado por outra instância, como chega pelo PgTaskEventBridge.
+public record RemoteTaskEvent(TaskEventDTO event) {
+
+    public boolean isResync() {
+        return TaskEventDTO.RESYNC.equals(event.getType()) || event.getId() == null;
+    }
+}
@@ -0,0 +1,259 @@
+package com.gustavo.taskmanager.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gustavo.taskmanager.config.CacheConfig;
+import com.gustavo.taskmanager.config.SyncProperties;
+import com.gustavo.taskmanager.dto.TaskBatchItemDTO;
+import com.gustavo.taskmanager.dto.TaskBatchPatchDTO;
+import com.gustavo.taskmanager.dto.TaskBatchResultDTO;
+import com.gustavo.taskmanager.dto.TaskCreateDTO;
+import com.gustavo.taskmanager.dto.TaskEventDTO;
+import com.gustavo.taskmanager.dto.TaskResponseDTO;
+import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.exception.BatchSizeExceededException;
+import com.gustavo.taskmanager.repository.TaskRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+@Service
+public class TaskBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskBatchService.class);
+
+    public static final int MAX_BATCH_SIZE = 10_000;
+
+    static final int COMMIT_SIZE = 1_000;
+
+    // Igual a hibernate.jdbc.batch_size: cada flush vira um único lote JDBC.
+    private static final int FLUSH_SIZE = 50;
+
+    private final TaskRepository taskRepository;
+    private final TaskService taskService;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ApplicationEventPublisher events;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactions;
+
+    public TaskBatchService(TaskRepository taskRepository, TaskService taskService,
+                            EntityManager entityManager, Validator validator, ApplicationEventPublisher events,
+                            PlatformTransactionManager transactionManager, SyncProperties syncProperties,
+                            CacheManager cacheManager) {
+        this.taskRepository = taskRepository;
+        this.taskService = taskService;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.events = events;
+        this.cacheManager = cacheManager;
+        this.transactions = new TransactionTemplate(transactionManager);
+        this.transactions.setTimeout(syncProperties.getBatchWriteTimeoutSeconds());
+    }
+
+    public TaskBatchResultDTO createAll(List<TaskCreateDTO> dtos) {
+        checkSize(dtos);
+        TaskBatchItemDTO[] items = new TaskBatchItemDTO[dtos.size()];
+
+        for (int from = 0; from < dtos.size(); from += COMMIT_SIZE) {
+            int start = from;
+            int to = Math.min(from + COMMIT_SIZE, dtos.size());
+            commit(items, from, to, false, () -> createChunk(dtos, start, to, items));
+        }
+
+        return new TaskBatchResultDTO(List.of(items));
+    }
+
+    private void createChunk(List<TaskCreateDTO> dtos, int from, int to, TaskBatchItemDTO[] items) {
+        int pending = 0;
+        for (int i = from; i < to; i++) {
+            TaskCreateDTO dto = dtos.get(i);
+            Map<String, String> errors = validate(dto);
+            if (!errors.isEmpty()) {
+                items[i] = new TaskBatchItemDTO(i, null, HttpStatus.BAD_REQUEST.value(), null, errors);
+                continue;
+            }
+
+            Task task = taskService.toEntity(dto);
+            entityManager.persist(task);
+            TaskResponseDTO created = taskService.toResponseDTO(task);
+            items[i] = new TaskBatchItemDTO(i, task.getId(), HttpStatus.CREATED.value(), created, null);
+            events.publishEvent(TaskEventDTO.of(TaskEventDTO.CREATED, created));
+
+            if (++pending == FLUSH_SIZE) {
+                flushAndClear();
+                pending = 0;
+            }
+        }
+        flushAndClear();
+    }
+
+    public TaskBatchResultDTO patchAll(List<TaskBatchPatchDTO> dtos) {
+        checkSize(dtos);
+        TaskBatchItemDTO[] items = new TaskBatchItemDTO[dtos.size()];
+
+        for (int from = 0; from < dtos.size(); from += COMMIT_SIZE) {
+            int start = from;
+            int to = Math.min(from + COMMIT_SIZE, dtos.size());
+            commit(items, from, to, true, () -> patchChunk(dtos, start, to, items));
+        }
+
+        return new TaskBatchResultDTO(List.of(items));
+    }
+
+    private void patchChunk(List<TaskBatchPatchDTO> dtos, int chunkFrom, int chunkTo, TaskBatchItemDTO[] items) {
+        for (int from = chunkFrom; from < chunkTo; from += FLUSH_SIZE) {
+            int to = Math.min(from + FLUSH_SIZE, chunkTo);
+
+            Set<Long> ids = new HashSet<>();
+            for (int i = from; i < to; i++) {
+                TaskBatchPatchDTO dto = dtos.get(i);
+                if (dto != null && dto.getId() != null) ids.add(dto.getId());
+            }
+            Map<Long, Task> found = taskRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+            List<Integer> applied = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                TaskBatchPatchDTO dto = dtos.get(i);
+                Map<String, String> errors = validate(dto);
+                if (!errors.isEmpty()) {
+                    items[i] = new TaskBatchItemDTO(i, dto == null ? null : dto.getId(), HttpStatus.BAD_REQUEST.value(), null, errors);
+                    continue;
+                }
+
+                Task task = found.get(dto.getId());
+                if (task == null) {
+                    items[i] = new TaskBatchItemDTO(i, dto.getId(), HttpStatus.NOT_FOUND.value(), null, null);
+                    continue;
+                }
+
+                taskService.applyPatch(task, dto);
+                applied.add(i);
+            }
+
+            // flush antes de montar a resposta: o @PreUpdate preenche updatedAt
+            entityManager.flush();
+            for (int i : applied) {
+                Task task = found.get(dtos.get(i).getId());
+                TaskResponseDTO patched = taskService.toResponseDTO(task);
+                items[i] = new TaskBatchItemDTO(i, task.getId(), HttpStatus.OK.value(), patched, null);
+                events.publishEvent(TaskEventDTO.of(TaskEventDTO.UPDATED, patched));
+            }
+            evictAfterCommit(applied.stream().map(i -> dtos.get(i).getId()).toList());
+            entityManager.clear();
+        }
+    }
+
+    public TaskBatchResultDTO deleteAll(List<Long> ids) {
+        checkSize(ids);
+        TaskBatchItemDTO[] items = new TaskBatchItemDTO[ids.size()];
+
+        for (int from = 0; from < ids.size(); from += COMMIT_SIZE) {
+            int start = from;
+            int to = Math.min(from + COMMIT_SIZE, ids.size());
+            commit(items, from, to, true, () -> deleteChunk(ids, start, to, items));
+        }
+
+        return new TaskBatchResultDTO(List.of(items));
+    }
+
+    private void deleteChunk(List<Long> ids, int from, int to, TaskBatchItemDTO[] items) {
+        List<Long> chunk = ids.subList(from, to);
+        List<Long> candidates = chunk.stream().filter(Objects::nonNull).toList();
+        Set<Long> existing = candidates.isEmpty() ? Set.of() : new HashSet<>(taskRepository.findExistingIds(candidates));
+
+        for (int i = 0; i < chunk.size(); i++) {
+            Long id = chunk.get(i);
+            int status = existing.contains(id) ? HttpStatus.NO_CONTENT.value() : HttpStatus.NOT_FOUND.value();
+            items[from + i] = new TaskBatchItemDTO(from + i, id, status, null, null);
+        }
+
+        // um único DELETE ... WHERE id IN (...) por bloco, precedido do INSERT dos tombstones
+        LocalDateTime at = Task.now();
+        if (!existing.isEmpty()) {
+            taskRepository.logDeletions(existing, at);
+        }
+        taskRepository.deleteAllByIdInBatch(existing);
+        existing.forEach(id -> events.publishEvent(TaskEventDTO.deleted(id, at)));
+        evictAfterCommit(existing);
+    }
+
+    // Como o @CacheEvict do update/delete unitário: o cache é transaction-aware (CacheConfig), então só as
+    // tasks do bloco saem, e logo depois do commit dele; um bloco desfeito não mexe no cache.
+    private void evictAfterCommit(Collection<Long> ids) {
+        Cache tasks = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        if (tasks != null) {
+            ids.forEach(tasks::evict);
+        }
+    }
+
+    // Cada bloco é uma transação, com prazo app.sync.batch-write-timeout-seconds. Se um falha, os itens dele que teriam dado
+    // certo voltam como falha; os blocos anteriores continuam commitados.
+    private void commit(TaskBatchItemDTO[] items, int from, int to, boolean keepIds, Runnable chunk) {
+        try {
+            transactions.executeWithoutResult(status -> chunk.run());
+        } catch (DataAccessException | TransactionException | PersistenceException e) {
+            boolean retryable = e instanceof TransientDataAccessException || e instanceof TransactionTimedOutException;
+            HttpStatus status = retryable ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.INTERNAL_SERVER_ERROR;
+            log.warn("Bloco {}-{} do lote desfeito: {}", from, to - 1, e.getMessage());
+            for (int i = from; i < to; i++) {
+                TaskBatchItemDTO item = items[i];
+                if (item == null || item.getStatus() < 300) {
+                    Long id = keepIds && item != null ? item.getId() : null;
+                    items[i] = new TaskBatchItemDTO(i, id, status.value(), null,
+                            Map.of("item", "não gravado: o bloco dele foi desfeito"));
+                }
+            }
+        }
+    }
+
+    private void checkSize(List<?> items) {
+        if (items == null || items.isEmpty() || items.size() > MAX_BATCH_SIZE) {
+            throw new BatchSizeExceededException(MAX_BATCH_SIZE);
+        }
+    }
+
+    private Map<String, String> validate(Object dto) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        if (dto == null) {
+            errors.put("item", "item não pode ser nulo");
+            return errors;
+        }
+        for (ConstraintViolation<Object> v : validator.validate(dto)) {
+            errors.putIfAbsent(v.getPropertyPath().toString(), v.getMessage());
+        }
+        return errors;
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
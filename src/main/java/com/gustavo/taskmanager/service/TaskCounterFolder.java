@@ -0,0 +1,29 @@
+package com.gustavo.taskmanager.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gustavo.taskmanager.repository.TaskRepository;
+
+// Consolida task_counter_deltas em task_counters. O total já soma os deltas pendentes, então o intervalo
+// só define quantas linhas de delta a leitura percorre, não a precisão.
+@Component
+@ConditionalOnProperty(prefix = "app.search", name = "counter-table", havingValue = "true")
+public class TaskCounterFolder {
+
+    private final TaskRepository taskRepository;
+
+    public TaskCounterFolder(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.counter-fold-interval:10s}")
+    @Transactional
+    public void fold() {
+        if (taskRepository.tryLockCounterFold()) {
+            taskRepository.foldCounterDeltas();
+        }
+    }
+}
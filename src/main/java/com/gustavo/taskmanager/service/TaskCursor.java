@@ -0,0 +1,41 @@
+package com.gustavo.taskmanager.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.gustavo.taskmanager.exception.InvalidCursorException;
+
+record TaskCursor(LocalDateTime createdAt, Long id, boolean backward) {
+
+    static TaskCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || !(parts[0].equals("n") || parts[0].equals("p"))) {
+                throw new InvalidCursorException();
+            }
+            return new TaskCursor(LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]), parts[0].equals("p"));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    static String next(LocalDateTime createdAt, Long id) {
+        return encode("n", createdAt, id);
+    }
+
+    static String prev(LocalDateTime createdAt, Long id) {
+        return encode("p", createdAt, id);
+    }
+
+    private static String encode(String direction, LocalDateTime createdAt, Long id) {
+        String raw = direction + "|" + createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,36 @@
+package com.gustavo.taskmanager.service;
+
+import java.time.Duration;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gustavo.taskmanager.config.SyncProperties;
+import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.repository.TaskRepository;
+
+// Retenção de task_deletions. Apaga com folga além de app.sync.deletion-retention: quem passa na checagem
+// de /tasks/changes (since dentro da retenção) nunca perde uma linha para um purge que rode no meio.
+// Cada réplica roda o seu; o DELETE é idempotente.
+@Component
+public class TaskDeletionPurger {
+
+    static final Duration MARGIN = Duration.ofHours(1);
+
+    private final TaskRepository taskRepository;
+    private final SyncProperties syncProperties;
+
+    public TaskDeletionPurger(TaskRepository taskRepository, SyncProperties syncProperties) {
+        this.taskRepository = taskRepository;
+        this.syncProperties = syncProperties;
+    }
+
+    // Não grava updatedAt/deletedAt: o prazo não entra na conta do app.sync.commit-grace.
+    @Scheduled(fixedDelayString = "${app.sync.deletion-purge-interval:1h}", initialDelayString = "1m")
+    @Transactional(timeout = 300)
+    public int purge() {
+        return taskRepository.purgeDeletionsBefore(
+                Task.now().minus(syncProperties.getDeletionRetention()).minus(MARGIN));
+    }
+}
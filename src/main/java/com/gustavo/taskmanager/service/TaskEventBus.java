@@ -0,0 +1,159 @@
+package com.gustavo.taskmanager.service;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.gustavo.taskmanager.config.StreamProperties;
+import com.gustavo.taskmanager.dto.TaskEventDTO;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+// Fan-out em memória para GET /tasks/stream. Quem publica só faz offer() em filas limitadas, uma por
+// assinante, e nunca espera por rede: cada fila é drenada por uma virtual thread própria, e um
+// assinante lento que enche a fila é desconectado em vez de segurar os demais.
+@Component
+public class TaskEventBus {
+
+    // Marca na fila para o drain mandar um comentário SSE vazio.
+    private static final TaskEventDTO HEARTBEAT = new TaskEventDTO();
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final StreamProperties props;
+    private final Executor drains;
+    private final ScheduledExecutorService heartbeats;
+    private final Counter dropped;
+
+    @Autowired
+    public TaskEventBus(StreamProperties props, MeterRegistry registry) {
+        this(props, registry, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    TaskEventBus(StreamProperties props, MeterRegistry registry, Executor drains) {
+        this.props = props;
+        this.drains = drains;
+        this.dropped = Counter.builder("tasks.stream.dropped")
+                .description("Assinantes desconectados por fila cheia")
+                .register(registry);
+        Gauge.builder("tasks.stream.subscribers", subscribers, Set::size).register(registry);
+
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("task-stream-heartbeat").daemon().factory());
+        long period = props.getHeartbeat().toMillis();
+        heartbeats.scheduleAtFixedRate(() -> subscribers.forEach(s -> enqueue(s, HEARTBEAT)),
+                period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public Optional<SseEmitter> subscribe() {
+        SseEmitter emitter = new SseEmitter(props.getTimeout().toMillis());
+        return subscribe(emitter) ? Optional.of(emitter) : Optional.empty();
+    }
+
+    boolean subscribe(SseEmitter emitter) {
+        if (subscribers.size() >= props.getMaxSubscribers()) {
+            return false;
+        }
+        Subscriber subscriber = new Subscriber(emitter, props.getBufferSize());
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        return true;
+    }
+
+    // Só depois do commit: rollback não vira evento. Fora de transação (create) publica na hora.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEventDTO event) {
+        publish(event);
+    }
+
+    public void publish(TaskEventDTO event) {
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, event);
+        }
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void enqueue(Subscriber subscriber, TaskEventDTO event) {
+        if (!subscriber.queue.offer(event)) {
+            drop(subscriber);
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            drains.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            TaskEventDTO event;
+            while (!subscriber.closed && (event = subscriber.queue.poll()) != null) {
+                try {
+                    subscriber.emitter.send(event == HEARTBEAT
+                            ? SseEmitter.event().comment("")
+                            : SseEmitter.event().name(event.getType()).data(event, MediaType.APPLICATION_JSON));
+                } catch (IOException | IllegalStateException e) {
+                    // cliente foi embora; o onError/onCompletion do emitter remove o assinante
+                    subscriber.closed = true;
+                    subscribers.remove(subscriber);
+                }
+            }
+            subscriber.draining.set(false);
+            // um offer() pode ter chegado entre o último poll() e o set(false)
+        } while (!subscriber.closed && !subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private void drop(Subscriber subscriber) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        subscriber.closed = true;
+        subscriber.queue.clear();
+        dropped.increment();
+        // complete() pode esperar o send() travado no socket lento: nunca na thread de quem publica.
+        drains.execute(subscriber.emitter::complete);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+        subscribers.forEach(s -> s.emitter.complete());
+        subscribers.clear();
+        if (drains instanceof ExecutorService executor) {
+            executor.shutdown();
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<TaskEventDTO> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.gustavo.taskmanager.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.repository.TaskRepository;
+
+import jakarta.persistence.EntityManager;
+
+@Service
+public class TaskExportService {
+
+    private static final int FLUSH_EVERY = 500;
+    private static final String CSV_HEADER = "id,title,description,status,priority,dueDate,createdAt,updatedAt\n";
+
+    private final TaskRepository taskRepository;
+    private final TaskService taskService;
+    private final EntityManager entityManager;
+    private final ObjectWriter jsonWriter;
+
+    public TaskExportService(TaskRepository taskRepository, TaskService taskService,
+                             EntityManager entityManager, ObjectMapper objectMapper) {
+        this.taskRepository = taskRepository;
+        this.taskService = taskService;
+        this.entityManager = entityManager;
+        this.jsonWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    // Cada linha vai direto para o OutputStream e a entidade é desanexada em seguida: heap constante.
+    @Transactional(readOnly = true)
+    public void export(TaskExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Task> tasks = taskRepository.streamAll()) {
+            if (format == TaskExportFormat.CSV) {
+                writeCsv(tasks.iterator(), out);
+            } else {
+                writeNdjson(tasks.iterator(), out);
+            }
+        }
+    }
+
+    private void writeNdjson(Iterator<Task> tasks, OutputStream out) throws IOException {
+        JsonGenerator gen = jsonWriter.createGenerator(out);
+        gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        gen.setRootValueSeparator(new SerializedString("\n"));
+
+        int rows = 0;
+        while (tasks.hasNext()) {
+            Task task = tasks.next();
+            jsonWriter.writeValue(gen, taskService.toResponseDTO(task));
+            entityManager.detach(task);
+            if (++rows % FLUSH_EVERY == 0) gen.flush();
+        }
+        if (rows > 0) gen.writeRaw('\n');
+        gen.close();
+    }
+
+    private void writeCsv(Iterator<Task> tasks, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+
+        int rows = 0;
+        while (tasks.hasNext()) {
+            Task task = tasks.next();
+            writer.write(String.valueOf(task.getId()));
+            writer.write(',');
+            writer.write(csv(task.getTitle()));
+            writer.write(',');
+            writer.write(csv(task.getDescription()));
+            writer.write(',');
+            writer.write(task.getStatus().name());
+            writer.write(',');
+            writer.write(task.getPriority().name());
+            writer.write(',');
+            writer.write(task.getDueDate() == null ? "" : task.getDueDate().toString());
+            writer.write(',');
+            writer.write(String.valueOf(task.getCreatedAt()));
+            writer.write(',');
+            writer.write(String.valueOf(task.getUpdatedAt()));
+            writer.write('\n');
+            entityManager.detach(task);
+            if (++rows % FLUSH_EVERY == 0) writer.flush();
+        }
+        writer.flush();
+    }
+
+    private static String csv(String value) {
+        if (value == null) return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,46 @@
+package com.gustavo.taskmanager.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Timer "tasks.service" por método (e por ramo da busca), com histograma para p95/p99 no Prometheus.
+// Os Timers ficam em cache: no caminho quente são dois gets em mapa, sem montar Meter.Id a cada chamada.
+@Component
+public class TaskMetrics {
+
+    static final String TIMER = "tasks.service";
+
+    private final MeterRegistry registry;
+    private final Map<String, Map<String, Timer>> timers = new ConcurrentHashMap<>();
+
+    public TaskMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public <T> T record(String method, Supplier<T> body) {
+        return record(method, "none", body);
+    }
+
+    public <T> T record(String method, String branch, Supplier<T> body) {
+        return timer(method, branch).record(body);
+    }
+
+    public void run(String method, Runnable body) {
+        timer(method, "none").record(body);
+    }
+
+    Timer timer(String method, String branch) {
+        return timers.computeIfAbsent(method, m -> new ConcurrentHashMap<>())
+                .computeIfAbsent(branch, b -> Timer.builder(TIMER)
+                        .tag("method", method)
+                        .tag("branch", branch)
+                        .publishPercentileHistogram()
+                        .register(registry));
+    }
+}
@@ -1,31 +1,85 @@
 package com.gustavo.taskmanager.service;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.gustavo.taskmanager.config.CacheConfig;
+import com.gustavo.taskmanager.config.SearchProperties;
+import com.gustavo.taskmanager.config.SyncProperties;
 import com.gustavo.taskmanager.dto.TaskCreateDTO;
+import com.gustavo.taskmanager.dto.TaskCursorPageDTO;
+import com.gustavo.taskmanager.dto.TaskEventDTO;
+import com.gustavo.taskmanager.dto.TaskFieldSet;
+import com.gustavo.taskmanager.dto.TaskFilterDTO;
 import com.gustavo.taskmanager.dto.TaskPatchDTO;
 import com.gustavo.taskmanager.dto.TaskResponseDTO;
+import com.gustavo.taskmanager.dto.TaskSliceDTO;
+import com.gustavo.taskmanager.dto.TaskStatsDTO;
 import com.gustavo.taskmanager.dto.TaskUpdateDTO;
 import com.gustavo.taskmanager.entity.Task;
 import com.gustavo.taskmanager.entity.TaskPriority;
 import com.gustavo.taskmanager.entity.TaskStatus;
 import com.gustavo.taskmanager.exception.TaskNotFoundException;
+import com.gustavo.taskmanager.exception.TaskVersionMismatchException;
 import com.gustavo.taskmanager.repository.TaskRepository;
+import com.gustavo.taskmanager.repository.TaskSpecifications;
+import com.gustavo.taskmanager.repository.TaskStatsRepository;
 
 @Service
 public class TaskService {
 
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+    private static final Pattern SEARCH_TERM = Pattern.compile("[\\p{L}\\p{N}]+");
+
     private final TaskRepository taskRepository;
+    private final SearchProperties searchProperties;
+    private final TaskMetrics metrics;
+    private final ApplicationEventPublisher events;
 
-    public TaskService(TaskRepository taskRepository) {
+    public TaskService(TaskRepository taskRepository, SearchProperties searchProperties, TaskMetrics metrics,
+                       ApplicationEventPublisher events) {
         this.taskRepository = taskRepository;
+        this.searchProperties = searchProperties;
+        this.metrics = metrics;
+        this.events = events;
     }
 
     public Task create(TaskCreateDTO dto) {
+        Task saved = metrics.record("create", () -> taskRepository.save(toEntity(dto)));
+        events.publishEvent(TaskEventDTO.of(TaskEventDTO.CREATED, toResponseDTO(saved)));
+        return saved;
+    }
+
+    Task toEntity(TaskCreateDTO dto) {
         Task task = new Task();
         task.setTitle(dto.getTitle());
         task.setDescription(dto.getDescription());
@@ -42,38 +96,256 @@ public class TaskService {
 
         task.setDueDate(dto.getDueDate());
 
-        return taskRepository.save(task);
+        return task;
     }
 
+    // Leituras são readOnly: com réplica configurada (ReadReplicaConfig) vão para ela.
+    @Transactional(readOnly = true)
     public List<Task> findAll() {
-        return taskRepository.findAll();
+        return metrics.record("findAll", () -> taskRepository.findAll());
     }
 
+    @Transactional(readOnly = true)
     public Page<TaskResponseDTO> findAll(Pageable pageable) {
-        return taskRepository.findAll(pageable).map(this::toResponseDTO);
+        if (searchProperties.isCounterTable()) {
+            return metrics.record("findAll", () -> countedPage(TaskFilterDTO.NONE, pageable));
+        }
+        return metrics.record("findAll", () -> taskRepository.findAll(pageable).map(this::toResponseDTO));
     }
 
-    public Page<TaskResponseDTO> search(String q, TaskStatus status, TaskPriority priority, Pageable pageable) {
-        String query = q == null ? null : q.trim();
-        boolean hasQ = query != null && !query.isBlank();
+    // O ramo vira tag do timer: findAll, filterOnly, search (LIKE) ou fullText.
+    // Cada ramo emite só os predicados enviados (Specification), então cada combinação de filtros
+    // tem SQL e plano próprios no banco.
+    @Transactional(readOnly = true)
+    public Page<TaskResponseDTO> search(TaskFilterDTO filter, Pageable pageable) {
+        if (filter.isCountable() && searchProperties.isCounterTable()) {
+            return metrics.record("search", filter.isEmpty() ? "findAll" : "filterOnly",
+                    () -> countedPage(filter, pageable));
+        }
+
+        if (filter.isEmpty()) {
+            return metrics.record("search", "findAll",
+                    () -> taskRepository.findAll(pageable).map(this::toResponseDTO));
+        }
+
+        if (filter.hasText()) {
+            String tsQuery = fullTextQuery(filter);
+            if (tsQuery != null) {
+                return metrics.record("search", "fullText",
+                        () -> taskRepository.fullTextSearch(tsQuery, filter, pageable).map(this::toResponseDTO));
+            }
+            return metrics.record("search", "search",
+                    () -> taskRepository.findAll(filterSpec(filter), pageable).map(this::toResponseDTO));
+        }
+
+        return metrics.record("search", "filterOnly",
+                () -> taskRepository.findAll(filterSpec(filter), pageable).map(this::toResponseDTO));
+    }
+
+    // Conteúdo via Slice (sem count) + total lido de task_counters: custo constante em vez de count(*).
+    private Page<TaskResponseDTO> countedPage(TaskFilterDTO filter, Pageable pageable) {
+        Slice<Task> slice = taskRepository.findBy(filterSpec(filter), query -> query.slice(pageable));
+        long total = taskRepository.countFromCounters(name(filter.singleStatus()), name(filter.singlePriority()));
+        return new PageImpl<>(slice.getContent(), pageable, total).map(this::toResponseDTO);
+    }
+
+    // fields=: mesmos filtros, mas só as colunas pedidas (TaskProjectionRepository), sem montar entidades.
+    // O full-text continua carregando Task (ranking no SQL nativo) e corta os campos só na saída.
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> search(TaskFilterDTO filter, TaskFieldSet fields, Pageable pageable) {
+        if (fullTextQuery(filter) != null) {
+            return search(filter, pageable).map(fields::pick);
+        }
+
+        Specification<Task> spec = filterSpec(filter);
+        List<Map<String, Object>> content = metrics.record("search", "fields",
+                () -> taskRepository.findFields(spec, fields.fields(), pageable.getSort(),
+                        pageable.getOffset(), pageable.getPageSize()));
+        // getPage só conta quando precisa (página cheia ou depois da primeira)
+        LongSupplier total = filter.isCountable() && searchProperties.isCounterTable()
+                ? () -> taskRepository.countFromCounters(name(filter.singleStatus()), name(filter.singlePriority()))
+                : () -> taskRepository.count(spec);
+        return PageableExecutionUtils.getPage(content, pageable, total);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskSliceDTO<TaskResponseDTO> searchSlice(TaskFilterDTO filter, Pageable pageable) {
+        String tsQuery = fullTextQuery(filter);
+
+        Slice<Task> slice = tsQuery != null
+                ? metrics.record("searchSlice", "fullText",
+                        () -> taskRepository.fullTextSearchSlice(tsQuery, filter, pageable))
+                : metrics.record("searchSlice", "specification",
+                        () -> taskRepository.findBy(filterSpec(filter), query -> query.slice(pageable)));
+
+        return new TaskSliceDTO<>(
+                slice.getContent().stream().map(this::toResponseDTO).toList(),
+                slice.getNumber(),
+                slice.getSize(),
+                slice.hasNext()
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public TaskSliceDTO<Map<String, Object>> searchSlice(TaskFilterDTO filter, TaskFieldSet fields, Pageable pageable) {
+        if (fullTextQuery(filter) != null) {
+            TaskSliceDTO<TaskResponseDTO> full = searchSlice(filter, pageable);
+            return new TaskSliceDTO<>(full.getContent().stream().map(fields::pick).toList(),
+                    full.getNumber(), full.getSize(), full.isHasNext());
+        }
+
+        List<Map<String, Object>> rows = metrics.record("searchSlice", "fields",
+                () -> taskRepository.findFields(filterSpec(filter), fields.fields(), pageable.getSort(),
+                        pageable.getOffset(), pageable.getPageSize() + 1));
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new TaskSliceDTO<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows,
+                pageable.getPageNumber(), pageable.getPageSize(), hasNext);
+    }
+
+    // Cache curto (CacheConfig.TASK_STATS_CACHE): dashboards fazem polling e toleram alguns segundos de atraso.
+    @Cacheable(cacheNames = CacheConfig.TASK_STATS_CACHE, key = "#filter")
+    @Transactional(readOnly = true)
+    public TaskStatsDTO stats(TaskFilterDTO filter) {
+        LocalDate today = LocalDate.now();
+        LocalDate weekEnd = today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        // q segue o mesmo ramo da lista (full-text ou LIKE), senão total de /stats e de /tasks divergem.
+        String tsQuery = fullTextQuery(filter);
+        List<TaskStatsRepository.StatsRow> rows = tsQuery != null
+                ? metrics.record("stats", "fullText",
+                        () -> taskRepository.fullTextCountGrouped(tsQuery, filter, today, weekEnd))
+                : metrics.record("stats", () -> taskRepository.countGrouped(filterSpec(filter), today, weekEnd));
+
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        for (TaskStatus s : TaskStatus.values()) byStatus.put(s, 0L);
+        for (TaskPriority p : TaskPriority.values()) byPriority.put(p, 0L);
+
+        long total = 0;
+        long overdue = 0;
+        long dueThisWeek = 0;
+        for (TaskStatsRepository.StatsRow row : rows) {
+            byStatus.merge(row.status(), row.count(), Long::sum);
+            byPriority.merge(row.priority(), row.count(), Long::sum);
+            total += row.count();
+            overdue += row.overdue();
+            dueThisWeek += row.dueThisWeek();
+        }
+
+        return new TaskStatsDTO(total, byStatus, byPriority, overdue, dueThisWeek);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskCursorPageDTO<TaskResponseDTO> scroll(TaskFilterDTO filter, String cursor, int size) {
+        return scroll(filter, cursor, size,
+                (spec, sort) -> metrics.record("scroll",
+                        () -> taskRepository.findBy(spec, query -> query.sortBy(sort).limit(size + 1).all())),
+                Task::getCreatedAt, Task::getId, this::toResponseDTO);
+    }
+
+    // O cursor precisa de createdAt e id: sempre selecionados, createdAt sai da resposta se não foi pedido.
+    @Transactional(readOnly = true)
+    public TaskCursorPageDTO<Map<String, Object>> scroll(TaskFilterDTO filter, TaskFieldSet fields, String cursor, int size) {
+        Set<TaskFieldSet.Field> selected = EnumSet.copyOf(fields.fields());
+        selected.add(TaskFieldSet.Field.CREATED_AT);
+        String createdAt = TaskFieldSet.Field.CREATED_AT.attribute();
+        return scroll(filter, cursor, size,
+                (spec, sort) -> metrics.record("scroll", "fields",
+                        () -> taskRepository.findFields(spec, selected, sort, 0, size + 1)),
+                row -> (LocalDateTime) row.get(createdAt),
+                row -> (Long) row.get(TaskFieldSet.Field.ID.attribute()),
+                row -> {
+                    if (!fields.contains(TaskFieldSet.Field.CREATED_AT)) {
+                        row.remove(createdAt);
+                    }
+                    return row;
+                });
+    }
+
+    private <T, R> TaskCursorPageDTO<R> scroll(TaskFilterDTO filter, String cursor, int size,
+                                               BiFunction<Specification<Task>, Sort, List<T>> fetch,
+                                               Function<T, LocalDateTime> createdAt, Function<T, Long> id,
+                                               Function<T, R> mapper) {
+        TaskCursor position = TaskCursor.decode(cursor);
+        boolean backward = position != null && position.backward();
+
+        Specification<Task> spec = filterSpec(filter);
+        if (position != null) {
+            spec = spec.and(backward
+                    ? TaskSpecifications.createdAfter(position.createdAt(), position.id())
+                    : TaskSpecifications.createdBefore(position.createdAt(), position.id()));
+        }
+
+        Sort sort = backward ? KEYSET_SORT.ascending() : KEYSET_SORT;
+        List<T> rows = fetch.apply(spec, sort);
 
-        if (!hasQ && status == null && priority == null) {
-            return findAll(pageable);
+        boolean hasMore = rows.size() > size;
+        List<T> items = new ArrayList<>(hasMore ? rows.subList(0, size) : rows);
+        if (backward) {
+            Collections.reverse(items);
         }
 
-        if (hasQ) {
-            String like = "%" + query.toLowerCase() + "%";
-            return taskRepository.search(like, status, priority, pageable).map(this::toResponseDTO);
+        // Indo para trás, "hasMore" indica páginas anteriores; indo para frente, páginas seguintes.
+        boolean hasNext = backward || hasMore;
+        boolean hasPrev = backward ? hasMore : position != null;
+
+        String next = null;
+        String prev = null;
+        if (!items.isEmpty()) {
+            T last = items.get(items.size() - 1);
+            T first = items.get(0);
+            next = hasNext ? TaskCursor.next(createdAt.apply(last), id.apply(last)) : null;
+            prev = hasPrev ? TaskCursor.prev(createdAt.apply(first), id.apply(first)) : null;
         }
 
-        return taskRepository.filterOnly(status, priority, pageable).map(this::toResponseDTO);
+        return new TaskCursorPageDTO<>(items.stream().map(mapper).toList(), size, next, prev);
     }
 
+    private Specification<Task> filterSpec(TaskFilterDTO filter) {
+        return Specification.allOf(
+                TaskSpecifications.matching(filter),
+                TaskSpecifications.matchesText(likePattern(filter.q()))
+        );
+    }
+
+    private String fullTextQuery(TaskFilterDTO filter) {
+        return searchProperties.isFullText() && filter.hasText() ? prefixTsQuery(filter.q()) : null;
+    }
+
+    // "relatorio mensal" -> "relatorio:* & mensal:*": só letras/dígitos chegam ao to_tsquery, sem sintaxe do usuário.
+    static String prefixTsQuery(String query) {
+        List<String> terms = new ArrayList<>();
+        Matcher m = SEARCH_TERM.matcher(query.toLowerCase());
+        while (m.find()) {
+            terms.add(m.group() + ":*");
+        }
+        return terms.isEmpty() ? null : String.join(" & ", terms);
+    }
+
+    private static String name(Enum<?> value) {
+        return value == null ? null : value.name();
+    }
+
+    private String likePattern(String q) {
+        String query = q == null ? null : q.trim();
+        if (query == null || query.isBlank()) {
+            return null;
+        }
+        return "%" + query.toLowerCase() + "%";
+    }
+
+    @Transactional(readOnly = true)
     public Task findById(Long id) {
-        return taskRepository.findById(id)
+        return metrics.record("findById", () -> taskRepository.findById(id))
                 .orElseThrow(() -> new TaskNotFoundException(id));
     }
 
+    // Só mede cache miss: um hit nem chega ao método.
+    @Cacheable(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
+    @Transactional(readOnly = true)
+    public TaskResponseDTO findResponseById(Long id) {
+        return toResponseDTO(findById(id));
+    }
+
     public TaskResponseDTO toResponseDTO(Task task) {
         TaskResponseDTO dto = new TaskResponseDTO();
         dto.setId(task.getId());
@@ -84,47 +356,85 @@ public class TaskService {
         dto.setDueDate(task.getDueDate());
         dto.setCreatedAt(task.getCreatedAt());
         dto.setUpdatedAt(task.getUpdatedAt());
+        dto.setVersion(task.getVersion());
         return dto;
     }
 
-    public TaskResponseDTO update(Long id, TaskUpdateDTO dto) {
-        Task task = findById(id);
-
-        task.setTitle(dto.getTitle());
-        task.setDescription(dto.getDescription());
-
+    @CachePut(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
+    @Transactional(timeoutString = SyncProperties.WRITE_TIMEOUT_SECONDS)
+    public TaskResponseDTO update(Long id, TaskUpdateDTO dto, Long expectedVersion) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        changes.put("title", dto.getTitle());
+        changes.put("description", dto.getDescription());
         if (dto.getStatus() != null) {
-            task.setStatus(dto.getStatus());
+            changes.put("status", dto.getStatus());
         }
+        changes.put("priority", dto.getPriority() != null ? dto.getPriority() : TaskPriority.MEDIUM);
+        changes.put("dueDate", dto.getDueDate());
 
-        if (dto.getPriority() != null) {
-            task.setPriority(dto.getPriority());
-        } else {
-            task.setPriority(TaskPriority.MEDIUM);
+        return published(metrics.record("update", () -> taskRepository.updateColumns(id, expectedVersion, changes))
+                .orElseThrow(() -> notUpdated(id, expectedVersion)));
+    }
+
+    @CachePut(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
+    @Transactional(timeoutString = SyncProperties.WRITE_TIMEOUT_SECONDS)
+    public TaskResponseDTO patch(Long id, TaskPatchDTO dto, Long expectedVersion) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        if (dto.getTitle() != null) changes.put("title", dto.getTitle());
+        if (dto.getDescription() != null) changes.put("description", dto.getDescription());
+        if (dto.getStatus() != null) changes.put("status", dto.getStatus());
+        if (dto.getPriority() != null) changes.put("priority", dto.getPriority());
+        if (dto.getDueDate() != null) changes.put("dueDate", dto.getDueDate());
+
+        if (changes.isEmpty()) {
+            return toResponseDTO(findById(id, expectedVersion));
         }
 
-        task.setDueDate(dto.getDueDate());
+        // Um único UPDATE só com as colunas enviadas (+ updated_at/version), sem SELECT antes.
+        return published(metrics.record("patch", () -> taskRepository.updateColumns(id, expectedVersion, changes))
+                .orElseThrow(() -> notUpdated(id, expectedVersion)));
+    }
 
-        Task saved = taskRepository.save(task);
-        return toResponseDTO(saved);
+    // Entregue aos assinantes de /tasks/stream só no commit (TaskEventBus).
+    private TaskResponseDTO published(TaskResponseDTO updated) {
+        events.publishEvent(TaskEventDTO.of(TaskEventDTO.UPDATED, updated));
+        return updated;
+    }
+
+    // Nenhuma linha atualizada: sem If-Match só pode ser id inexistente; com If-Match, distingue 404 de 412.
+    private RuntimeException notUpdated(Long id, Long expectedVersion) {
+        if (expectedVersion == null || !taskRepository.existsById(id)) {
+            return new TaskNotFoundException(id);
+        }
+        return new TaskVersionMismatchException(id);
     }
 
-    public TaskResponseDTO patch(Long id, TaskPatchDTO dto) {
+    private Task findById(Long id, Long expectedVersion) {
         Task task = findById(id);
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new TaskVersionMismatchException(id);
+        }
+        return task;
+    }
 
+    void applyPatch(Task task, TaskPatchDTO dto) {
         if (dto.getTitle() != null) task.setTitle(dto.getTitle());
         if (dto.getDescription() != null) task.setDescription(dto.getDescription());
         if (dto.getStatus() != null) task.setStatus(dto.getStatus());
         if (dto.getPriority() != null) task.setPriority(dto.getPriority());
         if (dto.getDueDate() != null) task.setDueDate(dto.getDueDate());
-
-        Task saved = taskRepository.save(task);
-        return toResponseDTO(saved);
     }
 
-    public void delete(Long id) {
-        Task task = findById(id);
-        taskRepository.delete(task);
+    @Transactional(timeoutString = SyncProperties.WRITE_TIMEOUT_SECONDS)
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
+    public void delete(Long id, Long expectedVersion) {
+        Task task = findById(id, expectedVersion);
+        LocalDateTime at = Task.now();
+        metrics.run("delete", () -> {
+            taskRepository.logDeletions(List.of(id), at);
+            taskRepository.delete(task);
+        });
+        events.publishEvent(TaskEventDTO.deleted(id, at));
     }
 }
 
@@ -0,0 +1,91 @@
+package com.gustavo.taskmanager.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gustavo.taskmanager.config.SyncProperties;
+import com.gustavo.taskmanager.dto.TaskChangeDTO;
+import com.gustavo.taskmanager.dto.TaskChangesDTO;
+import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.exception.SyncHistoryExpiredException;
+import com.gustavo.taskmanager.repository.TaskDeletionView;
+import com.gustavo.taskmanager.repository.TaskRepository;
+import com.gustavo.taskmanager.repository.TaskSpecifications;
+
+@Service
+public class TaskSyncService {
+
+    private static final Sort SYNC_SORT = Sort.by("updatedAt", "id");
+
+    private final TaskRepository taskRepository;
+    private final TaskService taskService;
+    private final SyncProperties syncProperties;
+    private final TaskMetrics metrics;
+
+    public TaskSyncService(TaskRepository taskRepository, TaskService taskService,
+                           SyncProperties syncProperties, TaskMetrics metrics) {
+        this.taskRepository = taskRepository;
+        this.taskService = taskService;
+        this.syncProperties = syncProperties;
+        this.metrics = metrics;
+    }
+
+    // Intercala as duas fontes em ordem de instante: alterações (tasks por updatedAt, id) e
+    // exclusões (task_deletions por deletedAt, id). Cada uma lê no máximo size + 1 linhas pelo índice.
+    @Transactional(readOnly = true)
+    public TaskChangesDTO changes(String since, int size) {
+        TaskSyncToken position = TaskSyncToken.decode(since);
+        LocalDateTime now = Task.now();
+        if (position != TaskSyncToken.START
+                && position.watermark().isBefore(now.minus(syncProperties.getDeletionRetention()))) {
+            throw new SyncHistoryExpiredException();
+        }
+        LocalDateTime until = now.minus(syncProperties.getCommitGrace());
+
+        List<Task> changed = metrics.record("changes", "tasks", () -> taskRepository.findBy(
+                TaskSpecifications.updatedBetween(position.taskAt(), position.taskId(), until),
+                query -> query.sortBy(SYNC_SORT).limit(size + 1).all()));
+        List<TaskDeletionView> deleted = metrics.record("changes", "deletions", () -> taskRepository.findDeletionsAfter(
+                position.deletedAt(), position.deletionId(), until, size + 1));
+
+        List<TaskChangeDTO> items = new ArrayList<>(Math.min(size, changed.size() + deleted.size()));
+        LocalDateTime taskAt = position.taskAt();
+        long taskId = position.taskId();
+        LocalDateTime deletedAt = position.deletedAt();
+        long deletionId = position.deletionId();
+        int t = 0;
+        int d = 0;
+
+        while (items.size() < size && (t < changed.size() || d < deleted.size())) {
+            boolean takeTask = d == deleted.size()
+                    || (t < changed.size() && !changed.get(t).getUpdatedAt().isAfter(deleted.get(d).getDeletedAt()));
+            if (takeTask) {
+                Task task = changed.get(t++);
+                items.add(new TaskChangeDTO(TaskChangeDTO.CHANGED, task.getId(), task.getUpdatedAt(), taskService.toResponseDTO(task)));
+                taskAt = task.getUpdatedAt();
+                taskId = task.getId();
+            } else {
+                TaskDeletionView deletion = deleted.get(d++);
+                items.add(new TaskChangeDTO(TaskChangeDTO.DELETED, deletion.getTaskId(), deletion.getDeletedAt(), null));
+                deletedAt = deletion.getDeletedAt();
+                deletionId = deletion.getId();
+            }
+        }
+
+        // Sem mais exclusões até until, a posição nelas avança até until: um cliente em dia num período sem
+        // DELETE não envelhece além da retenção. Nada com deleted_at <= until pode aparecer depois (grace).
+        if (deleted.size() <= size && d == deleted.size() && until.isAfter(deletedAt)) {
+            deletedAt = until;
+            deletionId = Long.MAX_VALUE;
+        }
+
+        boolean hasMore = t < changed.size() || d < deleted.size();
+        String next = new TaskSyncToken(taskAt, taskId, deletedAt, deletionId).encode();
+        return new TaskChangesDTO(items, next, hasMore);
+    }
+}
@@ -0,0 +1,53 @@
+package com.gustavo.taskmanager.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.gustavo.taskmanager.exception.InvalidCursorException;
+
+// Posição em cada fonte do feed: (updatedAt, id) em tasks e (deletedAt, id) em task_deletions.
+// "since" também aceita um instante ISO-8601 puro para o primeiro sync.
+record TaskSyncToken(LocalDateTime taskAt, long taskId, LocalDateTime deletedAt, long deletionId) {
+
+    static final TaskSyncToken START = from(LocalDateTime.of(1970, 1, 1, 0, 0));
+
+    static TaskSyncToken from(LocalDateTime since) {
+        return new TaskSyncToken(since, 0L, since, 0L);
+    }
+
+    static TaskSyncToken decode(String value) {
+        if (value == null || value.isBlank()) {
+            return START;
+        }
+
+        try {
+            return from(LocalDateTime.parse(value));
+        } catch (DateTimeParseException ignored) {
+            // não é um instante: tenta como token
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 5 || !parts[0].equals("s")) {
+                throw new InvalidCursorException();
+            }
+            return new TaskSyncToken(LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]),
+                    LocalDateTime.parse(parts[3]), Long.parseLong(parts[4]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    // As duas fontes são intercaladas por instante: tudo até a posição mais adiantada já foi entregue.
+    LocalDateTime watermark() {
+        return taskAt.isAfter(deletedAt) ? taskAt : deletedAt;
+    }
+
+    String encode() {
+        String raw = "s|" + taskAt + "|" + taskId + "|" + deletedAt + "|" + deletionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
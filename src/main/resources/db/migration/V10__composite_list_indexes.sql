@@ -0,0 +1,11 @@
+-- GET /tasks ordena por (created_at DESC, id DESC) (V3 cobre a lista sem filtro).
+-- Com filtro, a igualdade vem na frente e a ordenação logo depois: a página sai do índice já
+-- ordenada, sem Sort sobre todas as linhas do filtro.
+CREATE INDEX IF NOT EXISTS idx_tasks_status_priority_created_at_id ON tasks(status, priority, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_tasks_status_created_at_id ON tasks(status, created_at DESC, id DESC);
+-- Filtro só por priority (lista e /tasks/stats) não usa os de cima, que começam por status.
+CREATE INDEX IF NOT EXISTS idx_tasks_priority_created_at_id ON tasks(priority, created_at DESC, id DESC);
+
+-- Os de coluna única são prefixo dos índices acima.
+DROP INDEX IF EXISTS idx_tasks_status;
+DROP INDEX IF EXISTS idx_tasks_priority;
@@ -0,0 +1,12 @@
+-- Log de exclusões para GET /tasks/changes: o DELETE continua físico, mas deixa o id registrado.
+CREATE TABLE IF NOT EXISTS task_deletions (
+  id BIGSERIAL PRIMARY KEY,
+  task_id BIGINT NOT NULL,
+  deleted_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_deletions_deleted_at_id ON task_deletions(deleted_at, id);
+
+-- Keyset do feed de mudanças em (updated_at, id); cobre também o uso do índice antigo só em updated_at.
+CREATE INDEX IF NOT EXISTS idx_tasks_updated_at_id ON tasks(updated_at, id);
+DROP INDEX IF EXISTS idx_tasks_updated_at;
@@ -0,0 +1,82 @@
+package com.gustavo.taskmanager.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ConcurrencyLimitFilterTest {
+
+    @Test
+    void quandoSemPermissaoDisponivel_deveRetornar503() throws Exception {
+        ConcurrencyLimitProperties props = new ConcurrencyLimitProperties();
+        props.setMaxConcurrent(1);
+        props.setAcquireTimeout(Duration.ofMillis(10));
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(props, new ReadReplicaProperties(), new MockEnvironment());
+
+        AtomicInteger innerStatus = new AtomicInteger();
+        MockHttpServletResponse outer = new MockHttpServletResponse();
+
+        // a primeira requisição segura a única permissão enquanto a segunda tenta entrar
+        filter.doFilter(new MockHttpServletRequest("GET", "/tasks"), outer, (req, res) -> {
+            MockHttpServletResponse inner = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/tasks/1"), inner, (r, s) -> fail("não deveria passar"));
+            innerStatus.set(inner.getStatus());
+        });
+
+        assertEquals(503, innerStatus.get());
+        assertEquals(200, outer.getStatus());
+    }
+
+    @Test
+    void rotasForaDeTasks_naoSaoLimitadas() throws Exception {
+        ConcurrencyLimitProperties props = new ConcurrencyLimitProperties();
+        props.setMaxConcurrent(0);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(props, new ReadReplicaProperties(), new MockEnvironment());
+
+        AtomicInteger calls = new AtomicInteger();
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(),
+                (req, res) -> calls.incrementAndGet());
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void semMaxConcurrent_deveDeixarConexoesReservadasForaDoLimite() {
+        ConcurrencyLimitProperties props = new ConcurrencyLimitProperties();
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.hikari.maximum-pool-size", "12");
+
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(props, new ReadReplicaProperties(), environment);
+
+        assertEquals(10, filter.permits.availablePermits());
+        assertSame(filter.permits, filter.readPermits);
+    }
+
+    @Test
+    void comReplica_leiturasEEscritasTemLimitesSeparados() throws Exception {
+        ConcurrencyLimitProperties props = new ConcurrencyLimitProperties();
+        props.setMaxConcurrent(1);
+        props.setAcquireTimeout(Duration.ofMillis(10));
+        ReadReplicaProperties replica = new ReadReplicaProperties();
+        replica.setUrl("jdbc:postgresql://replica/tasks");
+        replica.setMaximumPoolSize(4);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(props, replica, new MockEnvironment());
+        assertEquals(4, filter.readPermits.availablePermits());
+
+        AtomicInteger innerStatus = new AtomicInteger();
+        // a escrita segura a única permissão do primário; a leitura usa a da réplica
+        filter.doFilter(new MockHttpServletRequest("POST", "/tasks"), new MockHttpServletResponse(), (req, res) -> {
+            MockHttpServletResponse inner = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/tasks/1"), inner, (r, s) -> {});
+            innerStatus.set(inner.getStatus());
+        });
+
+        assertEquals(200, innerStatus.get());
+    }
+}
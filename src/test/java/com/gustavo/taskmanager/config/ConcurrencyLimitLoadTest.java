@@ -0,0 +1,147 @@
+package com.gustavo.taskmanager.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.gustavo.taskmanager.security.JwtService;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+// Logins (JdbcLoginRateLimiter, pool primário) enquanto GET /tasks satura o limite do ConcurrencyLimitFilter:
+// com as conexões reservadas, nenhum login fica sem conexão (o Hikari desistiria no connection-timeout).
+// Fora do gradle test: roda com gradle loadTest.
+@Tag("load")
+@SpringBootTest(properties = {
+        "app.jwt.secret=load-test-secret-0123456789-0123456789",
+        "app.jwt.expiration-minutes=5",
+        "app.auth.username=admin",
+        "app.auth.password=admin",
+        "app.rate-limit.store=jdbc",
+        "app.rate-limit.max-attempts=1000000",
+        "app.list-cache.enabled=false",
+        "app.concurrency.enabled=true",
+        "spring.datasource.hikari.maximum-pool-size=" + ConcurrencyLimitLoadTest.POOL_SIZE,
+        "app.concurrency.acquire-timeout=2s"
+})
+@AutoConfigureMockMvc
+class ConcurrencyLimitLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitLoadTest.class);
+
+    static final int POOL_SIZE = 10;
+    private static final int CONNECTION_TIMEOUT_MILLIS = 5_000;
+    private static final int TASK_CLIENTS = 40;
+    private static final int LOGINS = 100;
+
+    @TestConfiguration
+    static class PostgresConfig {
+        @Bean(destroyMethod = "close")
+        EmbeddedPostgres embeddedPostgres() throws IOException {
+            return EmbeddedPostgres.start();
+        }
+
+        @Bean
+        DataSource dataSource(EmbeddedPostgres postgres) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl(postgres.getJdbcUrl("postgres", "postgres"));
+            dataSource.setMaximumPoolSize(POOL_SIZE);
+            dataSource.setConnectionTimeout(CONNECTION_TIMEOUT_MILLIS);
+            return dataSource;
+        }
+    }
+
+    @Autowired MockMvc mockMvc;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired JwtService jwtService;
+    @Autowired ConcurrencyLimitFilter filter;
+
+    @Test
+    void loginsComTasksSaturado_naoDevemEsperarConexao() throws Exception {
+        assertEquals(POOL_SIZE - 2, filter.permits.availablePermits());
+        jdbc.update("""
+                insert into tasks (id, title, description, status, priority, created_at, updated_at, version)
+                select nextval('tasks_id_seq'), 'Tarefa ' || g, repeat('descricao ', 20), 'TODO', 'MEDIUM',
+                       localtimestamp - g * interval '1 second', localtimestamp, 0
+                from generate_series(1, 20000) g
+                """);
+        String bearer = "Bearer " + jwtService.generateToken("admin");
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger tasksServed = new AtomicInteger();
+        ExecutorService clients = Executors.newFixedThreadPool(TASK_CLIENTS);
+        List<Long> latencies = new ArrayList<>();
+        int failed = 0;
+        try {
+            for (int c = 0; c < TASK_CLIENTS; c++) {
+                clients.execute(() -> {
+                    while (running.get()) {
+                        try {
+                            int status = mockMvc.perform(get("/tasks?size=50&q=tarefa 1")
+                                            .header(HttpHeaders.AUTHORIZATION, bearer))
+                                    .andReturn().getResponse().getStatus();
+                            if (status == 200) {
+                                tasksServed.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            // 503 do limitador e afins: só interessa manter /tasks saturado
+                        }
+                    }
+                });
+            }
+            Thread.sleep(1_000);
+
+            for (int i = 0; i < LOGINS; i++) {
+                long started = System.nanoTime();
+                int status = mockMvc.perform(post("/auth/login")
+                                .header("X-Forwarded-For", "10.0.0." + (i % 250))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"username\":\"admin\",\"password\":\"admin\"}"))
+                        .andReturn().getResponse().getStatus();
+                latencies.add((System.nanoTime() - started) / 1_000_000);
+                if (status != 200) {
+                    failed++;
+                }
+            }
+        } finally {
+            running.set(false);
+            clients.shutdown();
+            clients.awaitTermination(30, TimeUnit.SECONDS);
+        }
+
+        latencies.sort(null);
+        long max = latencies.get(latencies.size() - 1);
+        log.info("login com /tasks saturado: p50 {} ms, max {} ms; GET /tasks atendidos: {}",
+                latencies.get(latencies.size() / 2), max, tasksServed.get());
+        assertTrue(tasksServed.get() > 0);
+        // Sem conexão reservada, o login esperaria o connection-timeout inteiro e voltaria com erro.
+        assertEquals(0, failed);
+    }
+}
@@ -0,0 +1,52 @@
+package com.gustavo.taskmanager.config;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+        "management.endpoints.web.exposure.include=prometheus,caches",
+        "app.metrics.scrape.username=scraper",
+        "app.metrics.scrape.password=s3cret"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsScrapeSecurityTest {
+
+    @Autowired MockMvc mockMvc;
+
+    @Test
+    void semCredencial_deveRetornar401() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void comCredencialDoScraper_deveExporMetricasDePoolEHibernate() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("scraper", "s3cret")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(Matchers.containsString("hikaricp_connections")))
+                .andExpect(content().string(Matchers.containsString("hibernate_")));
+    }
+
+    @Test
+    void credencialErrada_deveRetornar401() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("scraper", "errada")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void endpointCaches_mesmoExposto_naoDeveAceitarDelete() throws Exception {
+        mockMvc.perform(delete("/actuator/caches").with(httpBasic("scraper", "s3cret")))
+                .andExpect(status().isUnauthorized());
+    }
+}
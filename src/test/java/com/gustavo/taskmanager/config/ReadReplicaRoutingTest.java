@@ -0,0 +1,103 @@
+package com.gustavo.taskmanager.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.gustavo.taskmanager.dto.TaskCreateDTO;
+import com.gustavo.taskmanager.dto.TaskFilterDTO;
+import com.gustavo.taskmanager.dto.TaskResponseDTO;
+import com.gustavo.taskmanager.security.JwtAuthentication;
+import com.gustavo.taskmanager.service.TaskService;
+
+// Dois H2 independentes no papel de primário e réplica; a réplica recebe o schema e uma linha só dela,
+// então o título lido mostra de qual banco veio a leitura.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.sticky-window=1h"
+})
+class ReadReplicaRoutingTest {
+
+    @Autowired TaskService taskService;
+    @Autowired @Qualifier("primaryDataSource") DataSource primary;
+    @Autowired @Qualifier("replicaDataSource") DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        Flyway.configure()
+                .dataSource(replica)
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load()
+                .migrate();
+        new JdbcTemplate(replica).update("delete from tasks");
+        new JdbcTemplate(replica).update("""
+                insert into tasks (id, title, status, priority, created_at, updated_at, version)
+                values (1000, 'Só na réplica', 'TODO', 'LOW', localtimestamp, localtimestamp, 0)
+                """);
+        new JdbcTemplate(primary).update("delete from tasks");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void leituraReadOnly_semEscritaRecente_deveIrParaReplica() {
+        loginAs("token-a");
+
+        assertThat(titles()).containsExactly("Só na réplica");
+    }
+
+    @Test
+    void escrita_deveIrParaPrimarioEFixarLeiturasDoMesmoToken() {
+        loginAs("token-escreveu");
+        taskService.create(novaTask("Criada agora"));
+
+        assertThat(new JdbcTemplate(primary).queryForObject("select count(*) from tasks", Long.class)).isEqualTo(1);
+        assertThat(new JdbcTemplate(replica).queryForObject(
+                "select count(*) from tasks where title = 'Criada agora'", Long.class)).isZero();
+
+        // read-your-writes: o mesmo token lê do primário dentro da janela
+        assertThat(titles()).containsExactly("Criada agora");
+
+        // outro cliente continua na réplica
+        loginAs("outro-token");
+        assertThat(titles()).containsExactly("Só na réplica");
+    }
+
+    @Test
+    void leituraSemAutenticacao_deveIrParaReplica() {
+        assertThat(taskService.findResponseById(1000L).getTitle()).isEqualTo("Só na réplica");
+    }
+
+    private List<String> titles() {
+        return taskService.search(TaskFilterDTO.NONE, PageRequest.of(0, 10)).getContent().stream()
+                .map(TaskResponseDTO::getTitle)
+                .toList();
+    }
+
+    private void loginAs(String token) {
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthentication("admin", token));
+    }
+
+    private TaskCreateDTO novaTask(String title) {
+        TaskCreateDTO dto = new TaskCreateDTO();
+        dto.setTitle(title);
+        return dto;
+    }
+}
@@ -0,0 +1,87 @@
+package com.gustavo.taskmanager.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.repository.TaskRepository;
+import com.gustavo.taskmanager.security.JwtService;
+
+// Tomcat de verdade: o gzip é do conector, MockMvc não passa por ele.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.jwt.secret=compression-test-secret-0123456789-0123456789",
+        "app.jwt.expiration-minutes=5",
+        "server.compression.min-response-size=2KB"
+})
+class ResponseCompressionTest {
+
+    @LocalServerPort int port;
+    @Autowired TaskRepository taskRepository;
+    @Autowired JwtService jwtService;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAllInBatch();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Task t = new Task();
+            t.setTitle("Tarefa " + i);
+            t.setDescription("Descrição longa ".repeat(30));
+            tasks.add(t);
+        }
+        taskRepository.saveAll(tasks);
+    }
+
+    @Test
+    void listaGrande_comAcceptEncodingGzip_deveSairComprimida() throws Exception {
+        HttpResponse<byte[]> response = get("/tasks?size=50", "gzip");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            assertThat(new String(in.readAllBytes())).contains("\"title\":\"Tarefa 0\"");
+        }
+    }
+
+    @Test
+    void respostaPequena_abaixoDoLimite_naoDeveSerComprimida() throws Exception {
+        HttpResponse<byte[]> response = get("/tasks/stats", "gzip");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(response.headers().firstValueAsLong("Content-Length")).hasValue(response.body().length);
+    }
+
+    @Test
+    void semAcceptEncoding_naoDeveComprimir() throws Exception {
+        HttpResponse<byte[]> response = get("/tasks?size=50", null);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+    }
+
+    private HttpResponse<byte[]> get(String path, String acceptEncoding) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + jwtService.generateToken("admin"));
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
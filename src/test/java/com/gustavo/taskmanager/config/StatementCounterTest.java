@@ -0,0 +1,52 @@
+package com.gustavo.taskmanager.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.repository.TaskRepository;
+
+@DataJpaTest
+@Import(StatementCounter.class)
+class StatementCounterTest {
+
+    @Autowired DataSource dataSource;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired TaskRepository taskRepository;
+
+    // Hibernate, JdbcTemplate com parâmetros (prepared) e sem parâmetros (Statement simples) contam igual.
+    @Test
+    void deveContarSqlDeTodosOsCaminhosJdbc() {
+        Task task = new Task();
+        task.setTitle("Contada");
+        Long id = taskRepository.saveAndFlush(task).getId();
+
+        StatementCounter.reset();
+        taskRepository.count();
+        jdbc.update("update tasks set title = ? where id = ?", "Renomeada", id);
+        jdbc.queryForObject("select count(*) from tasks", Long.class);
+        taskRepository.logDeletions(List.of(id), LocalDateTime.now());
+
+        assertThat(StatementCounter.current()).isEqualTo(4);
+    }
+
+    @Test
+    void conexao_deveExporAConexaoReal() throws Exception {
+        assertThat(dataSource).isInstanceOf(StatementCounter.CountingDataSource.class);
+        try (var connection = dataSource.getConnection()) {
+            assertThat(connection).isInstanceOf(ConnectionProxy.class);
+            assertThat(((ConnectionProxy) connection).getTargetConnection()).isNotInstanceOf(ConnectionProxy.class);
+        }
+    }
+}
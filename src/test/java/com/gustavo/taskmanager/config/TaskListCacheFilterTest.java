@@ -0,0 +1,174 @@
+package com.gustavo.taskmanager.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.gustavo.taskmanager.dto.TaskCreateDTO;
+import com.gustavo.taskmanager.dto.TaskEventDTO;
+import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.repository.TaskRepository;
+import com.gustavo.taskmanager.security.JwtService;
+import com.gustavo.taskmanager.service.RemoteTaskEvent;
+import com.gustavo.taskmanager.service.TaskService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Gravações direto no repositório não publicam evento: se a resposta não muda, veio do cache.
+@SpringBootTest(properties = {
+        "app.jwt.secret=list-cache-test-secret-0123456789-0123456789",
+        "app.jwt.expiration-minutes=5",
+        "app.list-cache.ttl=1m",
+        "app.concurrency.enabled=true",
+        "app.concurrency.max-concurrent=1",
+        "app.concurrency.acquire-timeout=100ms"
+})
+@AutoConfigureMockMvc
+class TaskListCacheFilterTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired TaskRepository taskRepository;
+    @Autowired TaskService taskService;
+    @Autowired JwtService jwtService;
+    @Autowired MeterRegistry registry;
+    @Autowired ConcurrencyLimitFilter concurrencyLimitFilter;
+    @Autowired ApplicationEventPublisher events;
+
+    private String bearer;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAllInBatch();
+        saveDirectly("Primeira");
+        bearer = "Bearer " + jwtService.generateToken("admin");
+        // cada teste começa de uma geração nova
+        taskService.create(novaTask("Semente"));
+    }
+
+    @Test
+    void segundaLeitura_deveVirDoCacheSemConsultarOBanco() throws Exception {
+        byte[] first = list("/tasks?size=50&q=cache-1");
+        saveDirectly("Invisível");
+        double hitsBefore = hits();
+
+        byte[] second = list("/tasks?size=50&q=cache-1");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(hits()).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    void escritaPeloService_deveInvalidarTudoQueFoiGuardado() throws Exception {
+        list("/tasks?size=50");
+
+        taskService.create(novaTask("Depois do cache"));
+
+        assertThat(new String(list("/tasks?size=50"))).contains("Depois do cache");
+    }
+
+    @Test
+    void eventoDeOutraReplica_deveInvalidarTudoQueFoiGuardado() throws Exception {
+        list("/tasks?size=50&q=remot");
+        saveDirectly("Escrita remota");
+
+        events.publishEvent(new RemoteTaskEvent(TaskEventDTO.resync(null)));
+
+        assertThat(new String(list("/tasks?size=50&q=remot"))).contains("Escrita remota");
+    }
+
+    // Cache antes do limitador: com a única permissão ocupada, o acerto sai mesmo assim (sem esperar o 503)
+    // e não chega ao DispatcherServlet, então nada é serializado de novo.
+    @Test
+    void acertoNoCache_naoDeveOcuparPermissaoNemSerializar() throws Exception {
+        byte[] first = list("/tasks?size=50&q=cache-2");
+        double hitsBefore = hits();
+
+        concurrencyLimitFilter.permits.acquire();
+        try {
+            var result = mockMvc.perform(get("/tasks?size=50&q=cache-2").header(HttpHeaders.AUTHORIZATION, bearer))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(first);
+            assertThat(result.getHandler()).isNull();
+            assertThat(hits()).isEqualTo(hitsBefore + 1);
+
+            mockMvc.perform(get("/tasks?size=50&q=outra").header(HttpHeaders.AUTHORIZATION, bearer))
+                    .andExpect(status().isServiceUnavailable());
+        } finally {
+            concurrencyLimitFilter.permits.release();
+        }
+    }
+
+    @Test
+    void mesmosParametrosEmOutraOrdem_devemCairNaMesmaEntrada() throws Exception {
+        list("/tasks?status=DOING&status=TODO&size=5");
+        double hitsBefore = hits();
+
+        list("/tasks?size=5&status=TODO,DOING");
+
+        assertThat(hits()).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    void erro_naoDeveSerGuardado() throws Exception {
+        mockMvc.perform(get("/tasks?fields=senha").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isBadRequest());
+        double hitsBefore = hits();
+
+        mockMvc.perform(get("/tasks?fields=senha").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isBadRequest());
+
+        assertThat(hits()).isEqualTo(hitsBefore);
+    }
+
+    @Test
+    void semToken_naoDeveServirDoCache() throws Exception {
+        list("/tasks?size=50");
+
+        mockMvc.perform(get("/tasks?size=50"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void key_naoDeveConfundirValorComSeparador() {
+        String comVirgula = TaskListCacheFilter.key(Map.of("q", new String[] { "a&size=5" }));
+        String separado = TaskListCacheFilter.key(Map.of("q", new String[] { "a" }, "size", new String[] { "5" }));
+
+        assertThat(comVirgula).isNotEqualTo(separado);
+        assertThat(TaskListCacheFilter.key(Map.of("fields", new String[] { "status, title", "id" })))
+                .isEqualTo(TaskListCacheFilter.key(Map.of("fields", new String[] { "id,title,status" })));
+    }
+
+    private byte[] list(String uri) throws Exception {
+        return mockMvc.perform(get(uri).header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    private double hits() {
+        return registry.get("tasks.list.cache").tag("result", "hit").counter().count();
+    }
+
+    private void saveDirectly(String title) {
+        Task t = new Task();
+        t.setTitle(title);
+        taskRepository.save(t);
+    }
+
+    private static TaskCreateDTO novaTask(String title) {
+        TaskCreateDTO dto = new TaskCreateDTO();
+        dto.setTitle(title);
+        return dto;
+    }
+}
@@ -0,0 +1,111 @@
+package com.gustavo.taskmanager.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+// O springdoc só roda aqui (em /v3/api-docs/live): o documento gerado tem de bater com o versionado.
+// Depois de mudar a API: gradle test --tests OpenApiDocumentTest -Popenapi.write=true
+@SpringBootTest(properties = {
+        "springdoc.api-docs.enabled=true",
+        "springdoc.api-docs.path=/v3/api-docs/live"
+})
+@AutoConfigureMockMvc
+class OpenApiDocumentTest {
+
+    private static final Path SOURCE = Path.of("src/main/resources", OpenApiController.DOCUMENT);
+
+    @Autowired MockMvc mockMvc;
+    @Autowired ObjectMapper objectMapper;
+
+    @Test
+    void documentoVersionado_deveSerIgualAoGeradoPeloSpringdoc() throws Exception {
+        String live = mockMvc.perform(get("/v3/api-docs/live"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        ObjectNode generated = (ObjectNode) objectMapper.readTree(live);
+        generated.remove("servers"); // URL da requisição; o documento estático fica relativo ao host
+
+        if (Boolean.getBoolean("openapi.write")) {
+            Files.writeString(SOURCE, objectMapper.writer(SerializationFeature.INDENT_OUTPUT)
+                    .writeValueAsString(generated) + "\n");
+        }
+
+        JsonNode committed = objectMapper.readTree(Files.readString(SOURCE));
+        assertThat(committed)
+                .as("OpenAPI desatualizado: rode gradle test --tests OpenApiDocumentTest -Popenapi.write=true")
+                .isEqualTo(generated);
+    }
+
+    @Test
+    void getApiDocs_deveServirDocumentoEstaticoComETag() throws Exception {
+        byte[] expected = new ClassPathResource(OpenApiController.DOCUMENT).getContentAsByteArray();
+
+        var result = mockMvc.perform(get("/v3/api-docs"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().stringValues(HttpHeaders.VARY, Matchers.hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn();
+        assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(expected);
+
+        mockMvc.perform(get("/v3/api-docs")
+                        .header(HttpHeaders.IF_NONE_MATCH, result.getResponse().getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getApiDocs_comAcceptEncodingGzip_deveServirVersaoComprimida() throws Exception {
+        byte[] expected = new ClassPathResource(OpenApiController.DOCUMENT).getContentAsByteArray();
+
+        var response = mockMvc.perform(get("/v3/api-docs").header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, Matchers.endsWith("-gzip\"")))
+                .andReturn().getResponse();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void acceptsGzip_deveRespeitarQZero() {
+        assertThat(OpenApiController.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(OpenApiController.acceptsGzip("GZIP;q=0.5")).isTrue();
+        assertThat(OpenApiController.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(OpenApiController.acceptsGzip("identity")).isFalse();
+        assertThat(OpenApiController.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    void appDocsDesligado_naoDeveRegistrarOController() {
+        new WebApplicationContextRunner()
+                .withUserConfiguration(OpenApiController.class)
+                .withPropertyValues("app.docs.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(OpenApiController.class));
+        new WebApplicationContextRunner()
+                .withUserConfiguration(OpenApiController.class)
+                .run(context -> assertThat(context).doesNotHaveBean(OpenApiController.class));
+    }
+}
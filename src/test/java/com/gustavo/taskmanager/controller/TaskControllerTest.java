@@ -1,8 +1,9 @@
 package com.gustavo.taskmanager.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -14,7 +15,11 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -29,22 +34,42 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gustavo.taskmanager.config.StatementCountFilter;
+import com.gustavo.taskmanager.config.TaskListCacheFilter;
+import com.gustavo.taskmanager.dto.TaskBatchItemDTO;
+import com.gustavo.taskmanager.dto.TaskBatchResultDTO;
+import com.gustavo.taskmanager.dto.TaskChangeDTO;
+import com.gustavo.taskmanager.dto.TaskChangesDTO;
+import com.gustavo.taskmanager.dto.TaskCursorPageDTO;
+import com.gustavo.taskmanager.dto.TaskFieldSet;
+import com.gustavo.taskmanager.dto.TaskFilterDTO;
 import com.gustavo.taskmanager.dto.TaskResponseDTO;
+import com.gustavo.taskmanager.dto.TaskSliceDTO;
+import com.gustavo.taskmanager.dto.TaskStatsDTO;
 import com.gustavo.taskmanager.entity.Task;
 import com.gustavo.taskmanager.entity.TaskPriority;
 import com.gustavo.taskmanager.entity.TaskStatus;
 import com.gustavo.taskmanager.exception.GlobalExceptionHandler;
+import com.gustavo.taskmanager.exception.InvalidCursorException;
 import com.gustavo.taskmanager.exception.TaskNotFoundException;
+import com.gustavo.taskmanager.exception.TaskVersionMismatchException;
 import com.gustavo.taskmanager.security.JwtAuthFilter;
+import com.gustavo.taskmanager.service.TaskBatchService;
+import com.gustavo.taskmanager.service.TaskEventBus;
+import com.gustavo.taskmanager.service.TaskExportService;
 import com.gustavo.taskmanager.service.TaskService;
+import com.gustavo.taskmanager.service.TaskSyncService;
 
 @WebMvcTest(
         controllers = TaskController.class,
-        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = JwtAuthFilter.class)
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = { JwtAuthFilter.class, StatementCountFilter.class, TaskListCacheFilter.class })
 )
 @AutoConfigureMockMvc(addFilters = false)
 @Import({ GlobalExceptionHandler.class, TaskControllerTest.MockConfig.class })
@@ -56,12 +81,35 @@ class TaskControllerTest {
         TaskService taskService() {
             return Mockito.mock(TaskService.class);
         }
+
+        @Bean
+        TaskBatchService taskBatchService() {
+            return Mockito.mock(TaskBatchService.class);
+        }
+
+        @Bean
+        TaskExportService taskExportService() {
+            return Mockito.mock(TaskExportService.class);
+        }
+
+        @Bean
+        TaskSyncService taskSyncService() {
+            return Mockito.mock(TaskSyncService.class);
+        }
+
+        @Bean
+        TaskEventBus taskEventBus() {
+            return Mockito.mock(TaskEventBus.class);
+        }
     }
 
     @Autowired MockMvc mockMvc;
     @Autowired ObjectMapper objectMapper;
 
     @Autowired TaskService taskService;
+    @Autowired TaskBatchService taskBatchService;
+    @Autowired TaskSyncService taskSyncService;
+    @Autowired TaskEventBus taskEventBus;
 
     @Test
     void post_quandoValido_deveRetornar201ComBody() throws Exception {
@@ -202,7 +250,9 @@ class TaskControllerTest {
                 1
         );
 
-        when(taskService.search(nullable(String.class), any(), any(), any())).thenReturn(page);
+        // sem sort na requisição: ordem padrão (createdAt, id) desc, determinística entre páginas
+        when(taskService.search(eq(TaskFilterDTO.NONE),
+                eq(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt", "id"))))).thenReturn(page);
 
         mockMvc.perform(get("/tasks")
                         .param("page", "0")
@@ -214,6 +264,151 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.number").value(0));
     }
 
+    @Test
+    void getTasks_comFiltrosMultiValorEIntervalos_deveMontarTaskFilter() throws Exception {
+        TaskFilterDTO expected = new TaskFilterDTO("relatório", Set.of(TaskStatus.TODO, TaskStatus.DOING),
+                Set.of(TaskPriority.HIGH), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31),
+                null, null, LocalDateTime.of(2026, 1, 10, 8, 0), null);
+        when(taskService.search(eq(expected), any())).thenReturn(Page.empty());
+
+        mockMvc.perform(get("/tasks")
+                        .param("q", "  relatório ")
+                        .param("status", "TODO,DOING")
+                        .param("priority", "HIGH")
+                        .param("dueFrom", "2026-01-01")
+                        .param("dueTo", "2026-01-31")
+                        .param("updatedFrom", "2026-01-10T08:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isEmpty());
+
+        Mockito.verify(taskService).search(eq(expected), any());
+    }
+
+    @Test
+    void getTasks_comDataInvalida_deveRetornar400() throws Exception {
+        mockMvc.perform(get("/tasks").param("dueFrom", "31/01/2026"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getTasks_comFields_deveUsarProjecaoEDevolverSoOsCampos() throws Exception {
+        Map<String, Object> card = new LinkedHashMap<>();
+        card.put("id", 5L);
+        card.put("title", "Card");
+        card.put("status", TaskStatus.TODO);
+        when(taskService.search(eq(TaskFilterDTO.NONE), eq(TaskFieldSet.parse("title,status")), any()))
+                .thenReturn(new PageImpl<>(List.of(card), PageRequest.of(0, 10), 1));
+
+        mockMvc.perform(get("/tasks").param("fields", "status,title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(5))
+                .andExpect(jsonPath("$.content[0].status").value("TODO"))
+                .andExpect(jsonPath("$.content[0].description").doesNotExist());
+
+        Mockito.verify(taskService, Mockito.never()).search(any(TaskFilterDTO.class), any(Pageable.class));
+    }
+
+    @Test
+    void getTasks_comFieldsInvalido_deveRetornar400() throws Exception {
+        mockMvc.perform(get("/tasks").param("fields", "title,senha"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Campo inválido em fields: senha"));
+    }
+
+    @Test
+    void getTasks_comWithTotalFalse_deveRetornarSliceSemTotal() throws Exception {
+        TaskResponseDTO dto = new TaskResponseDTO();
+        dto.setId(2L);
+        dto.setTitle("Segunda");
+        dto.setStatus(TaskStatus.DOING);
+        dto.setPriority(TaskPriority.HIGH);
+
+        when(taskService.searchSlice(eq(TaskFilterDTO.of(null, TaskStatus.DOING, null)), any()))
+                .thenReturn(new TaskSliceDTO<>(List.of(dto), 1, 10, true));
+
+        mockMvc.perform(get("/tasks")
+                        .param("withTotal", "false")
+                        .param("status", "DOING")
+                        .param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(2))
+                .andExpect(jsonPath("$.number").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    void getTasks_comCursor_deveRetornarPaginaKeysetSemTotal() throws Exception {
+        TaskResponseDTO dto = new TaskResponseDTO();
+        dto.setId(3L);
+        dto.setTitle("Terceira");
+        dto.setStatus(TaskStatus.TODO);
+        dto.setPriority(TaskPriority.MEDIUM);
+
+        when(taskService.scroll(any(TaskFilterDTO.class), eq(""), anyInt()))
+                .thenReturn(new TaskCursorPageDTO<>(List.of(dto), 10, "bi0y", null));
+
+        mockMvc.perform(get("/tasks")
+                        .param("cursor", "")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(3))
+                .andExpect(jsonPath("$.next").value("bi0y"))
+                .andExpect(jsonPath("$.prev").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    void getTasks_comCursorInvalido_deveRetornar400() throws Exception {
+        when(taskService.scroll(any(TaskFilterDTO.class), eq("lixo"), anyInt()))
+                .thenThrow(new InvalidCursorException());
+
+        mockMvc.perform(get("/tasks").param("cursor", "lixo"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Cursor inválido"));
+    }
+
+    @Test
+    void getStats_deveRetornarContagensAgrupadas() throws Exception {
+        TaskStatsDTO stats = new TaskStatsDTO(3,
+                Map.of(TaskStatus.TODO, 2L, TaskStatus.DOING, 1L, TaskStatus.DONE, 0L),
+                Map.of(TaskPriority.LOW, 0L, TaskPriority.MEDIUM, 1L, TaskPriority.HIGH, 2L),
+                1, 2);
+        when(taskService.stats(eq(TaskFilterDTO.of(null, TaskStatus.TODO, null)))).thenReturn(stats);
+
+        mockMvc.perform(get("/tasks/stats").param("status", "TODO"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.byStatus.TODO").value(2))
+                .andExpect(jsonPath("$.byPriority.HIGH").value(2))
+                .andExpect(jsonPath("$.overdue").value(1))
+                .andExpect(jsonPath("$.dueThisWeek").value(2));
+    }
+
+    @Test
+    void getChanges_deveLimitarSizeERetornarToken() throws Exception {
+        TaskChangesDTO changes = new TaskChangesDTO(
+                List.of(new TaskChangeDTO(TaskChangeDTO.DELETED, 7L, LocalDateTime.of(2026, 1, 1, 10, 0), null)),
+                "abc", false);
+        when(taskSyncService.changes("2026-01-01T00:00:00", 500)).thenReturn(changes);
+
+        mockMvc.perform(get("/tasks/changes").param("since", "2026-01-01T00:00:00").param("size", "10000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].type").value("deleted"))
+                .andExpect(jsonPath("$.changes[0].id").value(7))
+                .andExpect(jsonPath("$.next").value("abc"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void getStream_quandoSemVaga_deveRetornar503ComRetryAfter() throws Exception {
+        when(taskEventBus.subscribe()).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/tasks/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"));
+    }
+
     @Test
     void getById_quandoExiste_deveRetornar200() throws Exception {
         Task task = new Task();
@@ -223,8 +418,6 @@ class TaskControllerTest {
         task.setPriority(TaskPriority.HIGH);
         task.prePersist();
 
-        when(taskService.findById(5L)).thenReturn(task);
-
         TaskResponseDTO resp = new TaskResponseDTO();
         resp.setId(5L);
         resp.setTitle(task.getTitle());
@@ -235,18 +428,34 @@ class TaskControllerTest {
         resp.setCreatedAt(task.getCreatedAt());
         resp.setUpdatedAt(task.getUpdatedAt());
 
-        when(taskService.toResponseDTO(task)).thenReturn(resp);
+        resp.setVersion(2L);
+
+        when(taskService.findResponseById(5L)).thenReturn(resp);
 
         mockMvc.perform(get("/tasks/5"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""))
                 .andExpect(jsonPath("$.id").value(5))
                 .andExpect(jsonPath("$.status").value("DOING"))
                 .andExpect(jsonPath("$.priority").value("HIGH"));
     }
 
+    @Test
+    void getById_quandoIfNoneMatchConfere_deveRetornar304SemCorpo() throws Exception {
+        TaskResponseDTO resp = new TaskResponseDTO();
+        resp.setId(5L);
+        resp.setVersion(2L);
+        when(taskService.findResponseById(5L)).thenReturn(resp);
+
+        mockMvc.perform(get("/tasks/5").header("If-None-Match", "\"2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(content().string(""));
+    }
+
     @Test
     void getById_quandoNaoExiste_deveRetornar404ComApiError() throws Exception {
-        when(taskService.findById(999L)).thenThrow(new TaskNotFoundException(999L));
+        when(taskService.findResponseById(999L)).thenThrow(new TaskNotFoundException(999L));
 
         mockMvc.perform(get("/tasks/999"))
                 .andExpect(status().isNotFound())
@@ -278,7 +487,7 @@ class TaskControllerTest {
         resp.setCreatedAt(LocalDateTime.now());
         resp.setUpdatedAt(LocalDateTime.now());
 
-        when(taskService.update(eq(10L), any())).thenReturn(resp);
+        when(taskService.update(eq(10L), any(), isNull())).thenReturn(resp);
 
         mockMvc.perform(put("/tasks/10")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -304,7 +513,7 @@ class TaskControllerTest {
         resp.setCreatedAt(LocalDateTime.now());
         resp.setUpdatedAt(LocalDateTime.now());
 
-        when(taskService.patch(eq(11L), any())).thenReturn(resp);
+        when(taskService.patch(eq(11L), any(), isNull())).thenReturn(resp);
 
         mockMvc.perform(patch("/tasks/11")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -314,14 +523,53 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.title").value("Parcial"));
     }
 
+    @Test
+    void patch_quandoIfMatchNaoConfere_deveRetornar412() throws Exception {
+        when(taskService.patch(eq(11L), any(), eq(1L))).thenThrow(new TaskVersionMismatchException(11L));
+
+        mockMvc.perform(patch("/tasks/11")
+                        .header("If-Match", "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{ \"status\": \"DONE\" }"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412))
+                .andExpect(jsonPath("$.error").value("Precondition Failed"));
+    }
+
     @Test
     void delete_deveRetornar204() throws Exception {
-        doNothing().when(taskService).delete(20L);
+        doNothing().when(taskService).delete(20L, null);
 
         mockMvc.perform(delete("/tasks/20"))
                 .andExpect(status().isNoContent());
     }
-}
 
+    @Test
+    void postBatch_deveRetornarResultadoPorItem() throws Exception {
+        String body = """
+        [
+          { "title": "Lote 1" },
+          { "title": "" }
+        ]
+        """;
+
+        TaskResponseDTO created = new TaskResponseDTO();
+        created.setId(100L);
+        created.setTitle("Lote 1");
 
+        when(taskBatchService.createAll(any())).thenReturn(new TaskBatchResultDTO(List.of(
+                new TaskBatchItemDTO(0, 100L, 201, created, null),
+                new TaskBatchItemDTO(1, null, 400, null, Map.of("title", "title é obrigatório"))
+        )));
 
+        mockMvc.perform(post("/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.items[0].task.id").value(100))
+                .andExpect(jsonPath("$.items[1].status").value(400))
+                .andExpect(jsonPath("$.items[1].errors.title").exists());
+    }
+}
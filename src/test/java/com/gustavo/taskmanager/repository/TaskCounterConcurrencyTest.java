@@ -0,0 +1,178 @@
+package com.gustavo.taskmanager.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.entity.TaskPriority;
+import com.gustavo.taskmanager.entity.TaskStatus;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+// Transições concorrentes de status/priority contra os triggers de task_counters (V8) no PostgreSQL.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskCounterConcurrencyTest {
+
+    @TestConfiguration
+    static class PostgresConfig {
+        @Bean(destroyMethod = "close")
+        EmbeddedPostgres embeddedPostgres() throws IOException {
+            return EmbeddedPostgres.start();
+        }
+
+        @Bean
+        DataSource dataSource(EmbeddedPostgres postgres) {
+            return postgres.getPostgresDatabase();
+        }
+    }
+
+    @Autowired DataSource dataSource;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired TaskRepository taskRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAllInBatch();
+        fold();
+    }
+
+    // Se o trigger atualizasse task_counters direto: A segura (TODO,M)/(DONE,M), B segura (DOING,M)/(DOING,H), e cada um pede
+    // uma linha do outro. Uma thread só, com lock_timeout: se houver espera, o teste falha em vez de travar.
+    @Test
+    void transicoesCruzadasEmDuasTransacoes_naoDevemEsperarLockDeContador() throws Exception {
+        List<Long> ids = seed(
+                task(TaskStatus.TODO, TaskPriority.MEDIUM), task(TaskStatus.DOING, TaskPriority.MEDIUM),
+                task(TaskStatus.DOING, TaskPriority.MEDIUM), task(TaskStatus.TODO, TaskPriority.MEDIUM));
+
+        try (Connection a = open(); Connection b = open()) {
+            exec(a, "update tasks set status = 'DONE' where id = " + ids.get(0));
+            exec(b, "update tasks set priority = 'HIGH' where id = " + ids.get(1));
+            exec(a, "update tasks set priority = 'LOW' where id = " + ids.get(2));
+            exec(b, "update tasks set status = 'DONE' where id = " + ids.get(3));
+            a.commit();
+            b.commit();
+        }
+
+        assertCountersMatchTasks();
+        fold();
+        assertCountersMatchTasks();
+        assertThat(jdbc.queryForObject("select count(*) from task_counter_deltas", Long.class)).isZero();
+    }
+
+    // Cada thread mexe só nas próprias tasks (sem disputa em tasks); as linhas de contador são as mesmas 9.
+    @Test
+    void muitasTransacoesConcorrentes_devemTerminarSemDeadlockEComTotaisCertos() throws Exception {
+        int threads = 8;
+        int perThread = 6;
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < threads * perThread; i++) {
+            tasks.add(task(TaskStatus.TODO, TaskPriority.MEDIUM));
+        }
+        List<Long> ids = seed(tasks.toArray(Task[]::new));
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            List<Long> own = ids.subList(t * perThread, (t + 1) * perThread);
+            results.add(pool.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int round = 0; round < 40; round++) {
+                    try (Connection c = open()) {
+                        for (Long id : own) {
+                            exec(c, "update tasks set status = '" + TaskStatus.values()[random.nextInt(3)]
+                                    + "', priority = '" + TaskPriority.values()[random.nextInt(3)]
+                                    + "' where id = " + id);
+                        }
+                        c.commit();
+                    }
+                    if (round % 10 == 0) {
+                        fold();
+                    }
+                }
+                return null;
+            }));
+        }
+        pool.shutdown();
+        for (Future<?> result : results) {
+            result.get(); // relança deadlock/lock timeout, se houver
+        }
+
+        assertCountersMatchTasks();
+        fold();
+        assertCountersMatchTasks();
+    }
+
+    private void assertCountersMatchTasks() {
+        for (TaskStatus status : TaskStatus.values()) {
+            for (TaskPriority priority : TaskPriority.values()) {
+                long actual = jdbc.queryForObject("select count(*) from tasks where status = ? and priority = ?",
+                        Long.class, status.name(), priority.name());
+                assertThat(taskRepository.countFromCounters(status.name(), priority.name()))
+                        .as("%s/%s", status, priority)
+                        .isEqualTo(actual);
+            }
+        }
+        assertThat(taskRepository.countFromCounters(null, null)).isEqualTo(taskRepository.count());
+    }
+
+    private void fold() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            if (taskRepository.tryLockCounterFold()) {
+                taskRepository.foldCounterDeltas();
+            }
+        });
+    }
+
+    private List<Long> seed(Task... tasks) {
+        return taskRepository.saveAll(List.of(tasks)).stream().map(Task::getId).toList();
+    }
+
+    private static Task task(TaskStatus status, TaskPriority priority) {
+        Task t = new Task();
+        t.setTitle("Task " + status + " " + priority);
+        t.setStatus(status);
+        t.setPriority(priority);
+        return t;
+    }
+
+    private Connection open() throws SQLException {
+        Connection c = dataSource.getConnection();
+        c.setAutoCommit(false);
+        exec(c, "set lock_timeout = '2s'");
+        return c;
+    }
+
+    private static void exec(Connection c, String sql) throws SQLException {
+        try (Statement statement = c.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.gustavo.taskmanager.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gustavo.taskmanager.dto.TaskFilterDTO;
+import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.entity.TaskPriority;
+import com.gustavo.taskmanager.entity.TaskStatus;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+// Planos no PostgreSQL (migrations de db/vendor/postgresql incluídas) com um volume em que o planner
+// já prefere índice a seq scan. O SQL abaixo tem o mesmo formato do gerado pelo Hibernate para a lista.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskIndexUsageTest {
+
+    private static final int ROWS = 30_000;
+    private static final String PAGE = " order by created_at desc, id desc offset 0 rows fetch first 10 rows only";
+    // Mesmo formato do GROUP BY de TaskStatsRepositoryImpl.
+    private static final String STATS = """
+            select status, priority, count(*),
+                   sum(case when status <> 'DONE' and due_date < current_date then 1 else 0 end),
+                   sum(case when status <> 'DONE' and due_date between current_date and current_date + 6 then 1 else 0 end)
+            from tasks %s
+            group by status, priority
+            """;
+
+    @TestConfiguration
+    static class PostgresConfig {
+        @Bean(destroyMethod = "close")
+        EmbeddedPostgres embeddedPostgres() throws IOException {
+            return EmbeddedPostgres.start();
+        }
+
+        @Bean
+        DataSource dataSource(EmbeddedPostgres postgres) {
+            return postgres.getPostgresDatabase();
+        }
+    }
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired TaskRepository taskRepository;
+
+    // Maioria DONE, como numa base antiga; ~1% das abertas vencidas; HIGH rara (2%).
+    @BeforeEach
+    void seed() {
+        if (jdbc.queryForObject("select count(*) from tasks", Long.class) >= ROWS) {
+            return;
+        }
+        jdbc.update("""
+                insert into tasks (id, title, status, priority, due_date, created_at, updated_at, version)
+                select nextval('tasks_id_seq'), 'Task ' || g,
+                       case when g % 10 < 6 then 'DONE' when g % 10 < 8 then 'DOING' else 'TODO' end,
+                       case when g % 50 = 9 then 'HIGH' when g % 2 = 0 then 'LOW' else 'MEDIUM' end,
+                       case when g % 100 = 1 then current_date - 1 when g % 2 = 0 then current_date + 30 end,
+                       localtimestamp - g * interval '1 second',
+                       localtimestamp - g * interval '1 second',
+                       0
+                from generate_series(1, ?) g
+                """, ROWS);
+        jdbc.execute("analyze tasks");
+    }
+
+    @Test
+    void listaSemFiltro_deveUsarIndiceDeCreatedAtId() {
+        assertThat(plan("select * from tasks" + PAGE)).contains("Index Scan using idx_tasks_created_at_id");
+    }
+
+    @Test
+    void filtroPorStatusEPriority_deveUsarIndiceComposto() {
+        assertThat(plan("select * from tasks where status = 'TODO' and priority = 'HIGH'" + PAGE))
+                .contains("idx_tasks_status_priority_created_at_id")
+                .doesNotContain("Sort");
+    }
+
+    @Test
+    void filtroSoPorStatus_deveUsarIndiceComOrdem() {
+        assertThat(plan("select * from tasks where status = 'DOING'" + PAGE))
+                .contains("idx_tasks_status_created_at_id")
+                .doesNotContain("Sort");
+    }
+
+    // Priority comum (metade da tabela): andar no índice da lista com filtro acha a página logo.
+    @Test
+    void filtroSoPorPriorityComum_deveAndarNoIndiceDaListaSemSort() {
+        assertThat(plan("select * from tasks where priority = 'LOW'" + PAGE))
+                .contains("Index Scan using idx_tasks_created_at_id")
+                .doesNotContain("Sort");
+    }
+
+    // Priority rara: o índice da lista leria dezenas de linhas por acerto; o do V10 vai direto e já em ordem.
+    @Test
+    void filtroSoPorPriorityRara_deveUsarIndiceDePriority() {
+        assertThat(plan("select * from tasks where priority = 'HIGH'" + PAGE))
+                .contains("idx_tasks_priority_created_at_id")
+                .doesNotContain("Sort");
+    }
+
+    @Test
+    void statsPorPriority_deveUsarIndiceDePriority() {
+        assertThat(plan(STATS.formatted("where priority = 'HIGH'"))).contains("idx_tasks_priority_created_at_id");
+    }
+
+    @Test
+    void statsPorStatusEPriority_deveUsarIndiceComposto() {
+        assertThat(plan(STATS.formatted("where status = 'TODO' and priority = 'HIGH'")))
+                .contains("idx_tasks_status_priority_created_at_id");
+    }
+
+    // Status aberto: as linhas que não são DONE já estão todas no índice parcial do V11.
+    @Test
+    void statsPorStatusAberto_deveUsarIndiceParcial() {
+        assertThat(plan(STATS.formatted("where status = 'DOING'"))).contains("idx_tasks_open_due_date");
+    }
+
+    @Test
+    void abertasVencidas_deveUsarIndiceParcial() {
+        assertThat(plan("select count(*) from tasks where status <> 'DONE' and due_date < current_date"))
+                .contains("idx_tasks_open_due_date");
+    }
+
+    @Test
+    void feedDeMudancas_deveUsarIndiceDeUpdatedAtId() {
+        assertThat(plan("""
+                select * from tasks
+                where (updated_at > localtimestamp - interval '10 seconds'
+                       or (updated_at = localtimestamp - interval '10 seconds' and id > 0))
+                  and updated_at <= localtimestamp
+                order by updated_at, id
+                fetch first 101 rows only
+                """)).contains("idx_tasks_updated_at_id");
+    }
+
+    // /tasks/stats com q e full-text: mesmo WHERE da busca, então os totais batem.
+    @Test
+    void statsFullText_deveSomarOMesmoTotalDaBusca() {
+        TaskFilterDTO filter = TaskFilterDTO.of("1234", null, null);
+        long total = taskRepository.fullTextSearch("1234:*", filter, PageRequest.of(0, 10)).getTotalElements();
+
+        long stats = taskRepository.fullTextCountGrouped("1234:*", filter, LocalDate.now(), LocalDate.now().plusDays(6))
+                .stream().mapToLong(TaskStatsRepository.StatsRow::count).sum();
+
+        assertThat(total).isPositive();
+        assertThat(stats).isEqualTo(total);
+    }
+
+    // O caminho real (Specification + Slice) respeita a ordem da lista.
+    @Test
+    void sliceComFiltro_deveVirNaOrdemDaLista() {
+        Sort sort = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+        Slice<Task> slice = taskRepository.findBy(
+                TaskSpecifications.hasStatus(TaskStatus.TODO).and(TaskSpecifications.hasPriority(TaskPriority.HIGH)),
+                query -> query.slice(PageRequest.of(0, 10, sort)));
+
+        assertThat(slice.getContent()).hasSize(10);
+        assertThat(slice.getContent()).isSortedAccordingTo(
+                Comparator.comparing(Task::getCreatedAt).thenComparing(Task::getId).reversed());
+    }
+
+    private String plan(String sql) {
+        List<String> lines = jdbc.queryForList("explain " + sql, String.class);
+        return String.join("\n", lines);
+    }
+}
@@ -1,11 +1,28 @@
 package com.gustavo.taskmanager.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.gustavo.taskmanager.dto.TaskFieldSet;
+import com.gustavo.taskmanager.dto.TaskFilterDTO;
+import com.gustavo.taskmanager.dto.TaskResponseDTO;
 import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.entity.TaskPriority;
+import com.gustavo.taskmanager.entity.TaskStatus;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import jakarta.persistence.PersistenceException;
 
 @DataJpaTest
 class TaskRepositoryTest {
@@ -13,6 +30,9 @@ class TaskRepositoryTest {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     void saveAndFindById_shouldWork() {
         Task t = new Task();
@@ -25,4 +45,163 @@ class TaskRepositoryTest {
         assertThat(found).isPresent();
         assertThat(found.get().getTitle()).isEqualTo("Repo test");
     }
+
+    // V5: sem DEFAULT/identity em tasks.id; um id automático cairia num bloco já reservado pelo Hibernate.
+    @Test
+    void insertSemId_deveFalhar() {
+        assertThrows(PersistenceException.class, () -> entityManager.getEntityManager().createNativeQuery("""
+                insert into tasks (title, status, priority, created_at, updated_at, version)
+                values ('Sem id', 'TODO', 'MEDIUM', localtimestamp, localtimestamp, 0)
+                """).executeUpdate());
+    }
+
+    @Test
+    void createdBefore_deveRetornarSomenteItensAposOCursor() {
+        Task a = taskRepository.save(novaTask("A"));
+        Task b = taskRepository.save(novaTask("B"));
+        Task c = taskRepository.save(novaTask("C"));
+        entityManager.flush();
+        entityManager.clear(); // cursor sempre vem de valores lidos do banco
+
+        Sort keyset = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+        List<Task> firstPage = taskRepository.findBy(
+                TaskSpecifications.createdBefore(c.getCreatedAt().plusSeconds(1), Long.MAX_VALUE),
+                q -> q.sortBy(keyset).limit(2).all());
+        assertThat(firstPage).extracting(Task::getTitle).containsExactly("C", "B");
+
+        Task last = firstPage.get(1);
+        List<Task> secondPage = taskRepository.findBy(
+                TaskSpecifications.createdBefore(last.getCreatedAt(), last.getId()),
+                q -> q.sortBy(keyset).limit(2).all());
+        assertThat(secondPage).extracting(Task::getId).containsExactly(a.getId());
+        assertThat(b.getId()).isEqualTo(last.getId());
+    }
+
+    @Test
+    void slice_deveIndicarHasNextSemTotal() {
+        taskRepository.save(novaTask("A"));
+        taskRepository.save(novaTask("B"));
+
+        Slice<Task> slice = taskRepository.findBy(
+                TaskSpecifications.hasStatus(TaskStatus.TODO),
+                q -> q.slice(PageRequest.of(0, 1)));
+
+        assertThat(slice.getContent()).hasSize(1);
+        assertThat(slice.hasNext()).isTrue();
+    }
+
+    @Test
+    void updateColumns_deveAlterarSomenteAsColunasInformadas() {
+        Task t = novaTask("Antes");
+        t.setDescription("Desc");
+        t.setPriority(TaskPriority.HIGH);
+        Task saved = taskRepository.save(t);
+        entityManager.flush();
+        entityManager.clear();
+
+        var updated = taskRepository.updateColumns(saved.getId(), null,
+                Map.of("title", "Depois", "status", TaskStatus.DONE));
+
+        assertThat(updated).isPresent();
+        assertThat(updated.get().getTitle()).isEqualTo("Depois");
+        assertThat(updated.get().getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(updated.get().getDescription()).isEqualTo("Desc");
+        assertThat(updated.get().getPriority()).isEqualTo(TaskPriority.HIGH);
+        assertThat(updated.get().getUpdatedAt()).isAfterOrEqualTo(updated.get().getCreatedAt());
+        assertThat(updated.get().getVersion()).isEqualTo(saved.getVersion() + 1);
+
+        Task reloaded = entityManager.find(Task.class, saved.getId());
+        assertThat(reloaded.getTitle()).isEqualTo("Depois");
+        assertThat(reloaded.getStatus()).isEqualTo(TaskStatus.DONE);
+    }
+
+    @Test
+    void updateColumns_quandoIdNaoExiste_deveRetornarVazio() {
+        assertThat(taskRepository.updateColumns(-1L, null, Map.of("title", "X"))).isEmpty();
+    }
+
+    @Test
+    void updateColumns_quandoVersaoDiferente_naoDeveAtualizar() {
+        Task saved = taskRepository.save(novaTask("Original"));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(taskRepository.updateColumns(saved.getId(), saved.getVersion() + 1, Map.of("title", "X"))).isEmpty();
+        assertThat(taskRepository.updateColumns(saved.getId(), saved.getVersion(), Map.of("title", "Y")))
+                .get().extracting(TaskResponseDTO::getTitle).isEqualTo("Y");
+    }
+
+    @Test
+    void countGrouped_deveAgruparPorStatusEPrioridadeComVencidasEDaSemana() {
+        LocalDate today = LocalDate.of(2030, 6, 12); // quarta-feira
+        LocalDate weekEnd = LocalDate.of(2030, 6, 16);
+
+        taskRepository.save(novaTask("A", TaskStatus.TODO, TaskPriority.HIGH, today.minusDays(1)));   // vencida
+        taskRepository.save(novaTask("B", TaskStatus.TODO, TaskPriority.HIGH, today.plusDays(2)));    // semana
+        taskRepository.save(novaTask("C", TaskStatus.DONE, TaskPriority.HIGH, today.minusDays(3)));   // DONE não conta
+        taskRepository.save(novaTask("D", TaskStatus.DOING, TaskPriority.LOW, null));
+        entityManager.flush();
+
+        List<TaskStatsRepository.StatsRow> rows = taskRepository.countGrouped(null, today, weekEnd);
+
+        assertThat(rows).containsExactlyInAnyOrder(
+                new TaskStatsRepository.StatsRow(TaskStatus.TODO, TaskPriority.HIGH, 2, 1, 1),
+                new TaskStatsRepository.StatsRow(TaskStatus.DONE, TaskPriority.HIGH, 1, 0, 0),
+                new TaskStatsRepository.StatsRow(TaskStatus.DOING, TaskPriority.LOW, 1, 0, 0));
+
+        assertThat(taskRepository.countGrouped(TaskSpecifications.hasPriority(TaskPriority.LOW), today, weekEnd))
+                .extracting(TaskStatsRepository.StatsRow::count).containsExactly(1L);
+    }
+
+    @Test
+    void matching_comVariosStatusEIntervaloDeVencimento_deveAplicarInEExtremosInclusivos() {
+        LocalDate base = LocalDate.of(2026, 3, 1);
+        taskRepository.save(novaTask("A", TaskStatus.TODO, TaskPriority.HIGH, base));               // início
+        taskRepository.save(novaTask("B", TaskStatus.DOING, TaskPriority.LOW, base.plusDays(9)));   // fim
+        taskRepository.save(novaTask("C", TaskStatus.DONE, TaskPriority.HIGH, base.plusDays(5)));   // status fora
+        taskRepository.save(novaTask("D", TaskStatus.TODO, TaskPriority.HIGH, base.plusDays(10)));  // depois
+        taskRepository.save(novaTask("E", TaskStatus.DOING, TaskPriority.HIGH, null));              // sem data
+        entityManager.flush();
+
+        TaskFilterDTO filter = new TaskFilterDTO(null, Set.of(TaskStatus.TODO, TaskStatus.DOING), null,
+                base, base.plusDays(9), null, null, null, null);
+
+        List<Task> found = taskRepository.findAll(TaskSpecifications.matching(filter), Sort.by("title"));
+
+        assertThat(found).extracting(Task::getTitle).containsExactly("A", "B");
+    }
+
+    @Test
+    void findFields_deveTrazerSoAsColunasPedidasNaOrdemDoFieldSet() {
+        taskRepository.save(novaTask("A", TaskStatus.TODO, TaskPriority.HIGH, null));
+        taskRepository.save(novaTask("B", TaskStatus.DOING, TaskPriority.LOW, null));
+        taskRepository.save(novaTask("C", TaskStatus.TODO, TaskPriority.LOW, null));
+        entityManager.flush();
+        entityManager.clear();
+
+        TaskFieldSet fields = TaskFieldSet.parse("priority,title");
+        List<Map<String, Object>> rows = taskRepository.findFields(
+                TaskSpecifications.hasStatus(TaskStatus.TODO), fields.fields(), Sort.by("title"), 0, 10);
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0)).containsOnlyKeys("id", "title", "priority");
+        assertThat(List.copyOf(rows.get(0).keySet())).containsExactly("id", "title", "priority");
+        assertThat(rows).extracting(r -> r.get("title")).containsExactly("A", "C");
+        assertThat(rows.get(1).get("priority")).isEqualTo(TaskPriority.LOW);
+    }
+
+    private Task novaTask(String title, TaskStatus status, TaskPriority priority, LocalDate dueDate) {
+        Task t = novaTask(title);
+        t.setStatus(status);
+        t.setPriority(priority);
+        t.setDueDate(dueDate);
+        return t;
+    }
+
+    private Task novaTask(String title) {
+        Task t = new Task();
+        t.setTitle(title);
+        return t;
+    }
 }
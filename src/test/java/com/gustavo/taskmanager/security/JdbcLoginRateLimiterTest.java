@@ -0,0 +1,53 @@
+package com.gustavo.taskmanager.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.gustavo.taskmanager.config.RateLimitProperties;
+
+@ExtendWith(OutputCaptureExtension.class)
+class JdbcLoginRateLimiterTest {
+
+    private final NamedParameterJdbcTemplate jdbc = mock(NamedParameterJdbcTemplate.class);
+    private final JdbcLoginRateLimiter limiter = new JdbcLoginRateLimiter(jdbc, new RateLimitProperties());
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void bancoFora_deveAvisarUmaVezPorQuedaEUmaNaVolta(CapturedOutput output) {
+        when(jdbc.queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenThrow(new DataAccessResourceFailureException("conexão recusada"))
+                .thenThrow(new DataAccessResourceFailureException("conexão recusada"))
+                .thenThrow(new DataAccessResourceFailureException("conexão recusada"))
+                .thenReturn(true);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.allow("10.0.0.1")).isTrue(); // contador local
+        }
+        assertThat(limiter.allow("10.0.0.1")).isTrue();
+
+        assertThat(output.getOut().split("usando contador local", -1)).hasSize(2);
+        assertThat(output.getOut().split("restabelecido", -1)).hasSize(2);
+    }
+
+    @Test
+    void purge_deveApagarJanelasAntigas() {
+        limiter.purge();
+
+        verify(jdbc).update(startsWith("delete from login_attempts"),
+                any(SqlParameterSource.class));
+    }
+}
@@ -0,0 +1,80 @@
+package com.gustavo.taskmanager.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.gustavo.taskmanager.config.JwtProperties;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "jwt-service-test-secret-0123456789-0123456789";
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L); // segundo exato: o "exp" do JWT é em segundos
+    private final JwtService jwtService = new JwtService(props(SECRET), now::get);
+
+    @Test
+    void tokenValidado_deveFicarNoCacheEOAcertoDevolverOSubject() {
+        String token = jwtService.generateToken("admin");
+
+        assertEquals("admin", jwtService.validateAndGetSubject(token));
+        assertNotNull(jwtService.validated.getIfPresent(token));
+        assertEquals("admin", jwtService.validateAndGetSubject(token));
+    }
+
+    @Test
+    void tokenAdulteradoOuDeOutroSecret_deveSerRecusadoMesmoComOValidoNoCache() {
+        String token = jwtService.generateToken("admin");
+        assertEquals("admin", jwtService.validateAndGetSubject(token));
+
+        String[] parts = token.split("\\.");
+        String payload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                ("{\"sub\":\"intruso\",\"exp\":" + (now.get() / 1000 + 300) + "}").getBytes(StandardCharsets.UTF_8));
+        String tampered = parts[0] + "." + payload + "." + parts[2];
+        String otherSecret = new JwtService(props("outro-secret-0123456789-0123456789-0123456789"), now::get)
+                .generateToken("admin");
+
+        assertNull(jwtService.validateAndGetSubject(tampered));
+        assertNull(jwtService.validateAndGetSubject(otherSecret));
+        assertNull(jwtService.validated.getIfPresent(tampered));
+        assertNull(jwtService.validated.getIfPresent(otherSecret));
+    }
+
+    @Test
+    void entradaDoCache_deveDeixarDeValerQuandoOExpPassa() {
+        String token = jwtService.generateToken("admin"); // exp = agora + 5 min
+        assertEquals("admin", jwtService.validateAndGetSubject(token));
+
+        now.addAndGet(4 * 60_000L);
+        assertEquals("admin", jwtService.validateAndGetSubject(token));
+
+        now.addAndGet(60_000L);
+        assertNull(jwtService.validateAndGetSubject(token));
+        assertNull(jwtService.validated.getIfPresent(token));
+    }
+
+    @Test
+    void tokenSemExp_naoDeveIrParaOCache() {
+        String token = Jwts.builder()
+                .subject("admin")
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertEquals("admin", jwtService.validateAndGetSubject(token));
+        assertNull(jwtService.validated.getIfPresent(token));
+    }
+
+    private static JwtProperties props(String secret) {
+        JwtProperties props = new JwtProperties();
+        props.setSecret(secret);
+        props.setExpirationMinutes(5);
+        return props;
+    }
+}
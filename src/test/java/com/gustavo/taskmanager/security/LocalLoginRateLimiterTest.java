@@ -0,0 +1,41 @@
+package com.gustavo.taskmanager.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.gustavo.taskmanager.config.RateLimitProperties;
+
+class LocalLoginRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(60_000L); // início exato de uma janela de 1 min
+    private final LocalLoginRateLimiter limiter = new LocalLoginRateLimiter(new RateLimitProperties(), now::get);
+
+    @Test
+    void sextaTentativaNaMesmaJanela_deveSerBloqueada() {
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.allow("10.0.0.1"));
+        }
+        assertFalse(limiter.allow("10.0.0.1"));
+        assertTrue(limiter.allow("10.0.0.2")); // chaves independentes
+    }
+
+    @Test
+    void janelaAnteriorPesaProporcionalmenteAoTempoRestante() {
+        for (int i = 0; i < 5; i++) {
+            limiter.allow("10.0.0.1");
+        }
+
+        // 30s na janela seguinte: as 5 anteriores ainda valem 2,5
+        now.addAndGet(90_000L);
+        assertTrue(limiter.allow("10.0.0.1"));  // 2,5 + 1
+        assertTrue(limiter.allow("10.0.0.1"));  // 2,5 + 2
+        assertFalse(limiter.allow("10.0.0.1")); // 2,5 + 3 > 5
+
+        // duas janelas depois não sobra nada
+        now.addAndGet(120_000L);
+        assertTrue(limiter.allow("10.0.0.1"));
+    }
+}
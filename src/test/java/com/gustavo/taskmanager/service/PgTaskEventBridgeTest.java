@@ -0,0 +1,134 @@
+package com.gustavo.taskmanager.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gustavo.taskmanager.dto.TaskEventDTO;
+import com.gustavo.taskmanager.dto.TaskResponseDTO;
+
+class PgTaskEventBridgeTest {
+
+    private NamedParameterJdbcTemplate jdbc;
+    private TaskEventBus bus;
+    private ObjectMapper objectMapper;
+    private ApplicationEventPublisher events;
+    private PgTaskEventBridge bridge;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = mock(NamedParameterJdbcTemplate.class);
+        bus = mock(TaskEventBus.class);
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        events = mock(ApplicationEventPublisher.class);
+        bridge = new PgTaskEventBridge(jdbc, new DataSourceProperties(), bus, objectMapper, events);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clear();
+        }
+    }
+
+    @Test
+    void loteNaMesmaTransacao_deveSairNumUnicoNotifyNoCommit() throws Exception {
+        beginTransaction();
+        for (long id = 1; id <= 5; id++) {
+            bridge.onTaskEvent(TaskEventDTO.deleted(id, LocalDateTime.of(2030, 1, 1, 0, 0)));
+        }
+        verifyNoInteractions(jdbc);
+
+        commit();
+
+        String payload = sentPayloads().get(0);
+        assertThat(sentPayloads()).hasSize(1);
+        TaskEventDTO[] events = objectMapper.readValue(payload.substring(payload.indexOf('|') + 1), TaskEventDTO[].class);
+        assertThat(events).extracting(TaskEventDTO::getId).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void loteAcimaDoLimiteDoNotify_deveVirarResync() throws Exception {
+        beginTransaction();
+        for (long id = 1; id <= 50; id++) {
+            TaskResponseDTO task = new TaskResponseDTO();
+            task.setId(id);
+            task.setDescription("x".repeat(500));
+            bridge.onTaskEvent(TaskEventDTO.of(TaskEventDTO.UPDATED, task));
+        }
+        commit();
+
+        String payload = sentPayloads().get(0);
+        assertThat(payload.length()).isLessThan(PgTaskEventBridge.MAX_PAYLOAD_BYTES);
+        TaskEventDTO[] events = objectMapper.readValue(payload.substring(payload.indexOf('|') + 1), TaskEventDTO[].class);
+        assertThat(events).extracting(TaskEventDTO::getType).containsExactly(TaskEventDTO.RESYNC);
+    }
+
+    @Test
+    void rollback_naoDeveNotificar() {
+        beginTransaction();
+        bridge.onTaskEvent(TaskEventDTO.deleted(1L, null));
+
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verifyNoInteractions(jdbc);
+        assertThat(TransactionSynchronizationManager.getResource(bridge)).isNull();
+    }
+
+    @Test
+    void foraDeTransacao_deveNotificarNaHora() {
+        bridge.onTaskEvent(TaskEventDTO.deleted(1L, null));
+
+        assertThat(sentPayloads()).hasSize(1);
+    }
+
+    @Test
+    void receive_deveRepassarCadaEventoDeOutraReplica() throws Exception {
+        String json = objectMapper.writeValueAsString(List.of(TaskEventDTO.deleted(1L, null), TaskEventDTO.deleted(2L, null)));
+
+        bridge.receive("outra-replica|" + json);
+
+        verify(bus, times(2)).publish(any(TaskEventDTO.class));
+        verify(events, times(2)).publishEvent(any(RemoteTaskEvent.class));
+    }
+
+    private void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> sentPayloads() {
+        ArgumentCaptor<SqlParameterSource> params = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbc, atLeast(0)).query(anyString(), params.capture(), any(ResultSetExtractor.class));
+        return params.getAllValues().stream()
+                .map(p -> (String) ((MapSqlParameterSource) p).getValue("payload"))
+                .toList();
+    }
+}
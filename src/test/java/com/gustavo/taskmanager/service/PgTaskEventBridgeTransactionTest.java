@@ -0,0 +1,117 @@
+package com.gustavo.taskmanager.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gustavo.taskmanager.dto.TaskEventDTO;
+import com.gustavo.taskmanager.dto.TaskResponseDTO;
+import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.entity.TaskPriority;
+import com.gustavo.taskmanager.entity.TaskStatus;
+import com.gustavo.taskmanager.repository.TaskRepository;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+// NOTIFY no beforeCommit da transação JPA, contra um PostgreSQL de verdade: um pg_notify que falha não
+// pode levar a escrita junto.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PgTaskEventBridgeTransactionTest {
+
+    @TestConfiguration
+    static class PostgresConfig {
+        @Bean(destroyMethod = "close")
+        EmbeddedPostgres embeddedPostgres() throws IOException {
+            return EmbeddedPostgres.start();
+        }
+
+        @Bean
+        DataSource dataSource(EmbeddedPostgres postgres) {
+            return postgres.getPostgresDatabase();
+        }
+    }
+
+    @Autowired DataSource dataSource;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired TaskRepository taskRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    private PgTaskEventBridge bridge;
+
+    // Com public antes de pg_catalog no search_path, este pg_notify encobre o do sistema.
+    @BeforeEach
+    void setUp() {
+        jdbc.execute("""
+                create or replace function public.pg_notify(text, text) returns void language plpgsql as $$
+                begin
+                    raise exception 'too many notifications in the NOTIFY queue';
+                end $$
+                """);
+        bridge = new PgTaskEventBridge(new NamedParameterJdbcTemplate(dataSource), new DataSourceProperties(),
+                mock(TaskEventBus.class), new ObjectMapper().findAndRegisterModules(),
+                mock(ApplicationEventPublisher.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.execute("drop function if exists public.pg_notify(text, text)");
+    }
+
+    @Test
+    void notifyQueFalha_naoDeveDesfazerAEscrita() {
+        Long id = new TransactionTemplate(transactionManager).execute(status -> {
+            jdbc.execute("set local search_path = public, pg_catalog");
+            Task saved = taskRepository.saveAndFlush(task());
+            TaskResponseDTO dto = new TaskResponseDTO();
+            dto.setId(saved.getId());
+            bridge.onTaskEvent(TaskEventDTO.of(TaskEventDTO.CREATED, dto));
+            return saved.getId();
+        });
+
+        assertThat(taskRepository.existsById(id)).isTrue();
+    }
+
+    @Test
+    void notifyQueFunciona_deveSairNoCommit() {
+        jdbc.execute("drop function public.pg_notify(text, text)");
+
+        Long id = new TransactionTemplate(transactionManager).execute(status -> {
+            Task saved = taskRepository.saveAndFlush(task());
+            bridge.onTaskEvent(TaskEventDTO.deleted(saved.getId(), null));
+            return saved.getId();
+        });
+
+        assertThat(taskRepository.existsById(id)).isTrue();
+    }
+
+    private static Task task() {
+        Task t = new Task();
+        t.setTitle("Task com notify");
+        t.setStatus(TaskStatus.TODO);
+        t.setPriority(TaskPriority.MEDIUM);
+        return t;
+    }
+}
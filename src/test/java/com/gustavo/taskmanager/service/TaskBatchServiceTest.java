@@ -0,0 +1,123 @@
+package com.gustavo.taskmanager.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gustavo.taskmanager.config.CacheConfig;
+import com.gustavo.taskmanager.config.SearchProperties;
+import com.gustavo.taskmanager.config.SyncProperties;
+import com.gustavo.taskmanager.dto.TaskBatchPatchDTO;
+import com.gustavo.taskmanager.dto.TaskBatchResultDTO;
+import com.gustavo.taskmanager.dto.TaskCreateDTO;
+import com.gustavo.taskmanager.entity.TaskStatus;
+import com.gustavo.taskmanager.repository.TaskRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import({ CacheConfig.class, TaskBatchService.class, TaskService.class, SearchProperties.class, SyncProperties.class,
+        TaskMetrics.class, SimpleMeterRegistry.class })
+class TaskBatchServiceTest {
+
+    // @DataJpaTest desliga o cache (spring.cache.type=none); este é o "tasks" de verdade para o teste de evict.
+    @TestConfiguration
+    static class CacheTestConfig {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(CacheConfig.TASKS_CACHE);
+        }
+    }
+
+    @Autowired TaskBatchService taskBatchService;
+    @Autowired TaskRepository taskRepository;
+    @Autowired TaskService taskService;
+    @Autowired CacheManager cacheManager;
+
+    @Test
+    void createAll_deveGravarValidosEReportarInvalidosPorItem() {
+        List<TaskCreateDTO> dtos = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            TaskCreateDTO dto = new TaskCreateDTO();
+            dto.setTitle(i == 7 ? "" : "Lote " + i);
+            dtos.add(dto);
+        }
+
+        TaskBatchResultDTO result = taskBatchService.createAll(dtos);
+
+        assertThat(result.getSucceeded()).isEqualTo(119);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getItems().get(7).getStatus()).isEqualTo(400);
+        assertThat(result.getItems().get(7).getErrors()).containsKey("title");
+        assertThat(result.getItems().get(0).getId()).isNotNull();
+        assertThat(taskRepository.count()).isEqualTo(119);
+    }
+
+    @Test
+    void patchAllEDeleteAll_devemReportar404ParaIdsInexistentes() {
+        TaskCreateDTO create = new TaskCreateDTO();
+        create.setTitle("Existe");
+        Long id = taskBatchService.createAll(List.of(create)).getItems().get(0).getId();
+
+        TaskBatchPatchDTO existing = new TaskBatchPatchDTO();
+        existing.setId(id);
+        existing.setStatus(TaskStatus.DOING);
+        TaskBatchPatchDTO missing = new TaskBatchPatchDTO();
+        missing.setId(-1L);
+        missing.setStatus(TaskStatus.DONE);
+
+        TaskBatchResultDTO patched = taskBatchService.patchAll(List.of(existing, missing));
+        assertThat(patched.getItems().get(0).getTask().getStatus()).isEqualTo(TaskStatus.DOING);
+        assertThat(patched.getItems().get(1).getStatus()).isEqualTo(404);
+
+        TaskBatchResultDTO deleted = taskBatchService.deleteAll(List.of(id, -1L));
+        assertThat(deleted.getItems().get(0).getStatus()).isEqualTo(204);
+        assertThat(deleted.getItems().get(1).getStatus()).isEqualTo(404);
+        assertThat(taskRepository.existsById(id)).isFalse();
+    }
+
+    // Fora da transação do teste: cada bloco commita de verdade e o evict transaction-aware acontece.
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void patchAllEDeleteAll_devemTirarDoCacheSoAsTasksDoLote() {
+        try {
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                TaskCreateDTO create = new TaskCreateDTO();
+                create.setTitle("Cache " + i);
+                ids.add(taskBatchService.createAll(List.of(create)).getItems().get(0).getId());
+                taskService.findResponseById(ids.get(i));
+            }
+            Cache tasks = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+
+            TaskBatchPatchDTO patch = new TaskBatchPatchDTO();
+            patch.setId(ids.get(0));
+            patch.setStatus(TaskStatus.DONE);
+            taskBatchService.patchAll(List.of(patch));
+            taskBatchService.deleteAll(List.of(ids.get(1)));
+
+            assertThat(tasks.get(ids.get(0))).isNull();
+            assertThat(tasks.get(ids.get(1))).isNull();
+            assertThat(tasks.get(ids.get(2))).isNotNull();
+            assertThat(taskService.findResponseById(ids.get(0)).getStatus()).isEqualTo(TaskStatus.DONE);
+        } finally {
+            taskRepository.deleteAllInBatch();
+        }
+    }
+}
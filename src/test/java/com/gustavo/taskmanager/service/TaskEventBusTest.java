@@ -0,0 +1,99 @@
+package com.gustavo.taskmanager.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.gustavo.taskmanager.config.StreamProperties;
+import com.gustavo.taskmanager.dto.TaskEventDTO;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TaskEventBusTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private TaskEventBus bus;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        bus.shutdown();
+    }
+
+    @Test
+    void assinanteLento_deveSerDesconectadoSemAtrasarOsDemais() throws Exception {
+        StreamProperties props = new StreamProperties();
+        props.setBufferSize(4);
+        bus = new TaskEventBus(props, registry, Executors.newVirtualThreadPerTaskExecutor());
+
+        RecordingEmitter fast = new RecordingEmitter(null);
+        RecordingEmitter slow = new RecordingEmitter(release); // trava no primeiro send
+        bus.subscribe(fast);
+        bus.subscribe(slow);
+
+        // um por vez, esperando o rápido: só o lento acumula (1 preso no send + 4 na fila + 1 que não cabe)
+        for (int i = 1; i <= 10; i++) {
+            bus.publish(TaskEventDTO.deleted((long) i, null));
+            fast.awaitCount(i);
+        }
+
+        assertThat(bus.subscriberCount()).isEqualTo(1);
+        assertThat(registry.get("tasks.stream.dropped").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("tasks.stream.subscribers").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void semVaga_subscribeDeveRecusar() {
+        StreamProperties props = new StreamProperties();
+        props.setMaxSubscribers(1);
+        bus = new TaskEventBus(props, registry, Runnable::run);
+
+        assertThat(bus.subscribe(new RecordingEmitter(null))).isTrue();
+        assertThat(bus.subscribe(new RecordingEmitter(null))).isFalse();
+    }
+
+    static class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch block;
+        private final List<Object> sent = new CopyOnWriteArrayList<>();
+
+        RecordingEmitter(CountDownLatch block) {
+            this.block = block;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (block != null) {
+                try {
+                    block.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+            sent.add(builder);
+        }
+
+        @Override
+        public void complete() {
+            // sem handler HTTP em teste unitário
+        }
+
+        void awaitCount(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (sent.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(sent).hasSize(count);
+        }
+    }
+}
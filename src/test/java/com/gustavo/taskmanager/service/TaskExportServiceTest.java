@@ -0,0 +1,61 @@
+package com.gustavo.taskmanager.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.gustavo.taskmanager.config.SearchProperties;
+import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.repository.TaskRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ TaskExportService.class, TaskService.class, SearchProperties.class, TaskMetrics.class, SimpleMeterRegistry.class })
+class TaskExportServiceTest {
+
+    @Autowired TaskExportService taskExportService;
+    @Autowired TaskRepository taskRepository;
+
+    @Test
+    void export_ndjson_deveEscreverUmaLinhaPorTask() throws Exception {
+        taskRepository.save(novaTask("Primeira", null));
+        taskRepository.save(novaTask("Segunda", "com, vírgula"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        taskExportService.export(TaskExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{").contains("\"title\":\"Primeira\"");
+        assertThat(lines[1]).contains("\"description\":\"com, vírgula\"");
+    }
+
+    @Test
+    void export_csv_deveEscaparCampos() throws Exception {
+        taskRepository.save(novaTask("Título \"citado\"", "com, vírgula"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        taskExportService.export(TaskExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines[0]).isEqualTo("id,title,description,status,priority,dueDate,createdAt,updatedAt");
+        assertThat(lines[1]).contains(",\"Título \"\"citado\"\"\",\"com, vírgula\",TODO,MEDIUM,,");
+    }
+
+    private Task novaTask(String title, String description) {
+        Task t = new Task();
+        t.setTitle(title);
+        t.setDescription(description);
+        return t;
+    }
+}
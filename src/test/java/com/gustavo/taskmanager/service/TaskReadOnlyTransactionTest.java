@@ -0,0 +1,72 @@
+package com.gustavo.taskmanager.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gustavo.taskmanager.dto.TaskFilterDTO;
+import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.repository.TaskRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Leitura em transação readOnly: sessão sem snapshot e em FlushMode.MANUAL, então nenhum flush no commit.
+// Uma transação de escrita que carrega as mesmas entidades faz flush (dirty checking) — é o controle do teste.
+@SpringBootTest
+class TaskReadOnlyTransactionTest {
+
+    private static final TaskFilterDTO NO_FILTER = new TaskFilterDTO(null, null, null, null, null, null, null, null, null);
+
+    @Autowired TaskService taskService;
+    @Autowired TaskRepository taskRepository;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private Long firstId;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAllInBatch();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Task t = new Task();
+            t.setTitle("Tarefa " + i);
+            tasks.add(t);
+        }
+        firstId = taskRepository.saveAll(tasks).get(0).getId();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void leiturasDoService_naoDevemFazerFlush() {
+        taskService.findAll(PageRequest.of(0, 10));
+        taskService.search(NO_FILTER, PageRequest.of(0, 10));
+        taskService.searchSlice(NO_FILTER, PageRequest.of(0, 10));
+        taskService.scroll(NO_FILTER, null, 10);
+        taskService.findResponseById(firstId);
+
+        assertThat(statistics.getEntityLoadCount()).isGreaterThanOrEqualTo(5);
+        assertThat(statistics.getFlushCount()).isZero();
+    }
+
+    @Test
+    void transacaoDeEscrita_comAsMesmasEntidades_fazFlush() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> taskRepository.findAll());
+
+        assertThat(statistics.getEntityLoadCount()).isGreaterThanOrEqualTo(5);
+        assertThat(statistics.getFlushCount()).isPositive();
+    }
+}
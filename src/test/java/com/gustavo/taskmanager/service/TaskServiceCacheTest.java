@@ -0,0 +1,142 @@
+package com.gustavo.taskmanager.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.gustavo.taskmanager.config.CacheConfig;
+import com.gustavo.taskmanager.config.SearchProperties;
+import com.gustavo.taskmanager.dto.TaskEventDTO;
+import com.gustavo.taskmanager.dto.TaskPatchDTO;
+import com.gustavo.taskmanager.dto.TaskResponseDTO;
+import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.entity.TaskStatus;
+import com.gustavo.taskmanager.exception.TaskNotFoundException;
+import com.gustavo.taskmanager.repository.TaskRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SpringJUnitConfig(TaskServiceCacheTest.Config.class)
+class TaskServiceCacheTest {
+
+    @Configuration
+    @Import({ CacheConfig.class, TaskService.class, RemoteTaskCacheInvalidator.class, TaskMetrics.class,
+            SimpleMeterRegistry.class })
+    static class Config {
+        @Bean
+        TaskRepository taskRepository() {
+            return Mockito.mock(TaskRepository.class);
+        }
+
+        @Bean
+        SearchProperties searchProperties() {
+            return new SearchProperties();
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(CacheConfig.TASKS_CACHE);
+        }
+    }
+
+    @Autowired TaskService taskService;
+    @Autowired TaskRepository taskRepository;
+    @Autowired CacheManager cacheManager;
+    @Autowired ApplicationEventPublisher events;
+
+    @BeforeEach
+    void setUp() {
+        reset(taskRepository);
+        cacheManager.getCache(CacheConfig.TASKS_CACHE).clear();
+    }
+
+    @Test
+    void findResponseById_segundaLeituraDeveVirDoCache() {
+        Task task = novaTask();
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        taskService.findResponseById(1L);
+        taskService.findResponseById(1L);
+
+        verify(taskRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void patchEDelete_devemAtualizarEEvictarOCache() {
+        Task task = novaTask();
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        taskService.findResponseById(1L);
+
+        TaskResponseDTO updated = taskService.toResponseDTO(task);
+        updated.setStatus(TaskStatus.DONE);
+        when(taskRepository.updateColumns(eq(1L), isNull(), anyMap())).thenReturn(Optional.of(updated));
+
+        TaskPatchDTO dto = new TaskPatchDTO();
+        dto.setStatus(TaskStatus.DONE);
+        taskService.patch(1L, dto, null);
+        assertEquals(TaskStatus.DONE, taskService.findResponseById(1L).getStatus());
+        verify(taskRepository, times(1)).findById(1L); // só a leitura inicial; o patch não relê e a última veio do cache
+
+        taskService.delete(1L, null);
+        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+        assertThrows(TaskNotFoundException.class, () -> taskService.findResponseById(1L));
+    }
+
+    @Test
+    void eventoDeOutraReplica_deveEvictarATaskEResyncLimparOCache() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(novaTask()));
+        when(taskRepository.findById(2L)).thenReturn(Optional.of(novaTask()));
+        taskService.findResponseById(1L);
+        taskService.findResponseById(2L);
+
+        events.publishEvent(new RemoteTaskEvent(TaskEventDTO.deleted(1L, null)));
+        taskService.findResponseById(1L);
+        taskService.findResponseById(2L);
+        verify(taskRepository, times(2)).findById(1L);
+        verify(taskRepository, times(1)).findById(2L);
+
+        events.publishEvent(new RemoteTaskEvent(TaskEventDTO.resync(null)));
+        taskService.findResponseById(2L);
+        verify(taskRepository, times(2)).findById(2L);
+    }
+
+    @Test
+    void eventoDeOutraReplica_deveTirarAEntradaDoCache() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(novaTask()));
+        when(taskRepository.findById(2L)).thenReturn(Optional.of(novaTask()));
+        taskService.findResponseById(1L);
+        taskService.findResponseById(2L);
+        Cache tasks = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+
+        events.publishEvent(new RemoteTaskEvent(TaskEventDTO.deleted(1L, null)));
+        assertNull(tasks.get(1L));
+        assertNotNull(tasks.get(2L));
+
+        events.publishEvent(new RemoteTaskEvent(TaskEventDTO.resync(null)));
+        assertNull(tasks.get(2L));
+    }
+
+    private Task novaTask() {
+        Task task = new Task();
+        task.setTitle("Cache");
+        task.prePersist();
+        return task;
+    }
+}
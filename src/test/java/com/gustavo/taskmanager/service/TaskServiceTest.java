@@ -2,33 +2,67 @@ package com.gustavo.taskmanager.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
-
+import org.mockito.ArgumentMatchers;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.gustavo.taskmanager.config.SearchProperties;
 import com.gustavo.taskmanager.dto.TaskCreateDTO;
+import com.gustavo.taskmanager.dto.TaskFieldSet;
+import com.gustavo.taskmanager.dto.TaskFilterDTO;
 import com.gustavo.taskmanager.dto.TaskPatchDTO;
 import com.gustavo.taskmanager.dto.TaskResponseDTO;
+import com.gustavo.taskmanager.dto.TaskSliceDTO;
+import com.gustavo.taskmanager.dto.TaskStatsDTO;
 import com.gustavo.taskmanager.dto.TaskUpdateDTO;
 import com.gustavo.taskmanager.entity.Task;
 import com.gustavo.taskmanager.entity.TaskPriority;
 import com.gustavo.taskmanager.entity.TaskStatus;
+import com.gustavo.taskmanager.exception.InvalidCursorException;
+import com.gustavo.taskmanager.exception.InvalidFieldsException;
 import com.gustavo.taskmanager.exception.TaskNotFoundException;
+import com.gustavo.taskmanager.exception.TaskVersionMismatchException;
 import com.gustavo.taskmanager.repository.TaskRepository;
+import com.gustavo.taskmanager.repository.TaskStatsRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class TaskServiceTest {
 
     private TaskRepository taskRepository;
+    private SearchProperties searchProperties;
+    private SimpleMeterRegistry meterRegistry;
     private TaskService taskService;
 
     @BeforeEach
     void setUp() {
         taskRepository = mock(TaskRepository.class);
-        taskService = new TaskService(taskRepository);
+        searchProperties = new SearchProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        taskService = new TaskService(taskRepository, searchProperties, new TaskMetrics(meterRegistry), event -> {});
     }
 
     @Test
@@ -101,21 +135,184 @@ class TaskServiceTest {
     }
 
     @Test
+    void search_quandoFullTextLigado_deveUsarConsultaRanqueadaComPrefixos() {
+        searchProperties.setFullText(true);
+        when(taskRepository.fullTextSearch(any(), any(), any())).thenReturn(Page.empty());
+        TaskFilterDTO filter = TaskFilterDTO.of("  Relatório, mensal! ", TaskStatus.TODO, null);
+
+        taskService.search(filter, PageRequest.of(0, 10));
+
+        verify(taskRepository).fullTextSearch(eq("relatório:* & mensal:*"), eq(filter), any());
+        verify(taskRepository, never()).findAll(ArgumentMatchers.<Specification<Task>>any(), any(Pageable.class));
+    }
+
+    @Test
+    void search_quandoFullTextDesligado_deveUsarLike() {
+        when(taskRepository.findAll(ArgumentMatchers.<Specification<Task>>any(), any(Pageable.class))).thenReturn(Page.empty());
+
+        taskService.search(TaskFilterDTO.of("Mensal", null, TaskPriority.HIGH), PageRequest.of(0, 10));
+
+        verify(taskRepository).findAll(ArgumentMatchers.<Specification<Task>>any(), any(Pageable.class));
+        verify(taskRepository, never()).fullTextSearch(any(), any(), any());
+        assertEquals(1, meterRegistry.get("tasks.service").tag("method", "search").tag("branch", "search").timer().count());
+    }
+
+    @Test
+    void search_quandoCounterTableLigado_deveLerTotalDosContadoresSemCount() {
+        searchProperties.setCounterTable(true);
+        Task task = new Task();
+        task.setTitle("Contada");
+        task.prePersist();
+        when(taskRepository.findBy(ArgumentMatchers.<Specification<Task>>any(), any()))
+                .thenReturn(new SliceImpl<>(java.util.List.of(task), PageRequest.of(0, 1), true));
+        when(taskRepository.countFromCounters("DONE", null)).thenReturn(42L);
+
+        Page<TaskResponseDTO> page = taskService.search(TaskFilterDTO.of(null, TaskStatus.DONE, null), PageRequest.of(0, 1));
+
+        assertEquals(42, page.getTotalElements());
+        assertEquals(1, page.getContent().size());
+        verify(taskRepository, never()).findAll(ArgumentMatchers.<Specification<Task>>any(), any(Pageable.class));
+        verify(taskRepository, never()).count(ArgumentMatchers.<Specification<Task>>any());
+    }
+
+    @Test
+    void search_quandoCounterTableLigadoMasFiltroMultiValor_deveUsarCount() {
+        searchProperties.setCounterTable(true);
+        when(taskRepository.findAll(ArgumentMatchers.<Specification<Task>>any(), any(Pageable.class))).thenReturn(Page.empty());
+        TaskFilterDTO filter = new TaskFilterDTO(null, Set.of(TaskStatus.TODO, TaskStatus.DOING), null,
+                null, null, null, null, null, null);
+
+        taskService.search(filter, PageRequest.of(0, 10));
+
+        verify(taskRepository).findAll(ArgumentMatchers.<Specification<Task>>any(), any(Pageable.class));
+        verify(taskRepository, never()).countFromCounters(any(), any());
+    }
+
+    @Test
+    void search_deveRegistrarTimerPorRamo() {
+        when(taskRepository.findAll(any(Pageable.class))).thenReturn(Page.empty());
+        when(taskRepository.findAll(ArgumentMatchers.<Specification<Task>>any(), any(Pageable.class))).thenReturn(Page.empty());
+
+        taskService.search(TaskFilterDTO.NONE, PageRequest.of(0, 10));
+        taskService.search(TaskFilterDTO.of("  ", TaskStatus.DONE, null), PageRequest.of(0, 10));
+
+        assertEquals(1, meterRegistry.get("tasks.service").tag("method", "search").tag("branch", "findAll").timer().count());
+        assertEquals(1, meterRegistry.get("tasks.service").tag("method", "search").tag("branch", "filterOnly").timer().count());
+    }
+
+    @Test
+    void searchSlice_naoDeveExecutarCount() {
+        Task task = new Task();
+        task.setTitle("Slice");
+        task.prePersist();
+        when(taskRepository.findBy(ArgumentMatchers.<Specification<Task>>any(), any())).thenReturn(new SliceImpl<>(java.util.List.of(task), PageRequest.of(0, 1), true));
+
+        TaskSliceDTO<TaskResponseDTO> slice = taskService.searchSlice(TaskFilterDTO.of(null, TaskStatus.TODO, null), PageRequest.of(0, 1));
+
+        assertEquals(1, slice.getContent().size());
+        assertTrue(slice.isHasNext());
+        verify(taskRepository, never()).count();
+        verify(taskRepository, never()).count(ArgumentMatchers.<Specification<Task>>any());
+    }
+
+    @Test
+    void searchComFields_deveBuscarSoAsColunasPedidasSemCarregarEntidades() {
+        Map<String, Object> row = new LinkedHashMap<>(Map.of("id", 1L, "title", "Card"));
+        when(taskRepository.findFields(any(), any(), any(), anyLong(), anyInt())).thenReturn(List.of(row));
+        TaskFieldSet fields = TaskFieldSet.parse("title");
+
+        Page<Map<String, Object>> page = taskService.search(TaskFilterDTO.of(null, TaskStatus.TODO, null), fields, PageRequest.of(0, 10));
+
+        assertEquals(1, page.getTotalElements());
+        assertEquals("Card", page.getContent().get(0).get("title"));
+        verify(taskRepository).findFields(any(), eq(fields.fields()), any(), eq(0L), eq(10));
+        verify(taskRepository, never()).findAll(ArgumentMatchers.<Specification<Task>>any(), any(Pageable.class));
+        // primeira página incompleta: o total sai do próprio conteúdo, sem count
+        verify(taskRepository, never()).count(ArgumentMatchers.<Specification<Task>>any());
+    }
+
+    @Test
+    void searchComFields_comFullText_deveCortarCamposNaSaida() {
+        searchProperties.setFullText(true);
+        Task task = new Task();
+        task.setTitle("Relatório");
+        task.setDescription("não deve sair");
+        task.prePersist();
+        when(taskRepository.fullTextSearch(any(), any(), any())).thenReturn(new PageImpl<>(List.of(task)));
+
+        Page<Map<String, Object>> page = taskService.search(TaskFilterDTO.of("relatorio", null, null),
+                TaskFieldSet.parse("title,status"), PageRequest.of(0, 10));
+
+        assertEquals(List.of("id", "title", "status"), List.copyOf(page.getContent().get(0).keySet()));
+        verify(taskRepository, never()).findFields(any(), any(), any(), anyLong(), anyInt());
+    }
+
+    @Test
+    void scrollComFields_deveMontarCursorMasOmitirCreatedAtNaoPedido() {
+        LocalDateTime at = LocalDateTime.of(2026, 1, 1, 10, 0);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (long id = 3; id >= 1; id--) {
+            rows.add(new LinkedHashMap<>(Map.of("id", id, "createdAt", at.minusMinutes(id))));
+        }
+        when(taskRepository.findFields(any(), any(), any(), eq(0L), eq(3))).thenReturn(rows);
+
+        var page = taskService.scroll(TaskFilterDTO.NONE, TaskFieldSet.parse("title"), null, 2);
+
+        assertEquals(2, page.getContent().size());
+        assertFalse(page.getContent().get(0).containsKey("createdAt"));
+        assertNotNull(page.getNext());
+        verify(taskRepository).findFields(any(), argThat(f -> f.contains(TaskFieldSet.Field.CREATED_AT)), any(), eq(0L), eq(3));
+    }
+
+    @Test
+    void fieldSet_comCampoDesconhecido_deveLancarInvalidFieldsException() {
+        assertThrows(InvalidFieldsException.class, () -> TaskFieldSet.parse("title,senha"));
+        assertNull(TaskFieldSet.parse(" "));
+    }
+
+    @Test
+    void stats_deveSomarLinhasAgrupadasEPreencherZeros() {
+        when(taskRepository.countGrouped(any(), any(), any())).thenReturn(java.util.List.of(
+                new TaskStatsRepository.StatsRow(TaskStatus.TODO, TaskPriority.HIGH, 4, 1, 2),
+                new TaskStatsRepository.StatsRow(TaskStatus.DOING, TaskPriority.HIGH, 3, 2, 0)));
+
+        TaskStatsDTO stats = taskService.stats(TaskFilterDTO.NONE);
+
+        assertEquals(7, stats.getTotal());
+        assertEquals(4L, stats.getByStatus().get(TaskStatus.TODO));
+        assertEquals(0L, stats.getByStatus().get(TaskStatus.DONE));
+        assertEquals(7L, stats.getByPriority().get(TaskPriority.HIGH));
+        assertEquals(0L, stats.getByPriority().get(TaskPriority.LOW));
+        assertEquals(3, stats.getOverdue());
+        assertEquals(2, stats.getDueThisWeek());
+    }
+
+    @Test
+    void stats_comFullTextLigadoEQ_deveUsarOMesmoPredicadoDaBusca() {
+        searchProperties.setFullText(true);
+        TaskFilterDTO filter = TaskFilterDTO.of("relatorio", null, null);
+        when(taskRepository.fullTextCountGrouped(eq("relatorio:*"), eq(filter), any(), any())).thenReturn(List.of(
+                new TaskStatsRepository.StatsRow(TaskStatus.TODO, TaskPriority.LOW, 2, 0, 0)));
+
+        TaskStatsDTO stats = taskService.stats(filter);
+
+        assertEquals(2, stats.getTotal());
+        verify(taskRepository, never()).countGrouped(any(), any(), any());
+    }
+
+    @Test
+    void scroll_quandoCursorInvalido_deveLancarInvalidCursorException() {
+        assertThrows(InvalidCursorException.class, () -> taskService.scroll(TaskFilterDTO.NONE, "nao-e-cursor", 10));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
     void update_quandoDtoSemPriority_deveForcarMEDIUM() {
         // Arrange
-        Task existing = new Task();
-        existing.setTitle("Antes");
-        existing.setDescription("Antes desc");
-        existing.setStatus(TaskStatus.TODO);
-        existing.setPriority(TaskPriority.LOW);
-        existing.prePersist();
-
-        when(taskRepository.findById(10L)).thenReturn(java.util.Optional.of(existing));
-        when(taskRepository.save(any(Task.class))).thenAnswer(inv -> {
-            Task t = inv.getArgument(0);
-            t.preUpdate(); // simula update no JPA
-            return t;
-        });
+        TaskResponseDTO row = new TaskResponseDTO();
+        row.setId(10L);
+        when(taskRepository.updateColumns(eq(10L), isNull(), anyMap())).thenReturn(java.util.Optional.of(row));
 
         TaskUpdateDTO dto = new TaskUpdateDTO();
         dto.setTitle("Depois");
@@ -125,35 +322,31 @@ class TaskServiceTest {
         dto.setDueDate(LocalDate.now().plusDays(10));
 
         // Act
-        TaskResponseDTO updated = taskService.update(10L, dto);
+        TaskResponseDTO updated = taskService.update(10L, dto, null);
 
         // Assert
-        assertEquals("Depois", updated.getTitle());
-        assertEquals("Depois desc", updated.getDescription());
-        assertEquals(TaskStatus.DONE, updated.getStatus());
-        assertEquals(TaskPriority.MEDIUM, updated.getPriority()); // regra do service
-        assertEquals(dto.getDueDate(), updated.getDueDate());
-        assertNotNull(updated.getCreatedAt());
-        assertNotNull(updated.getUpdatedAt());
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(taskRepository).updateColumns(eq(10L), isNull(), captor.capture());
+        Map<String, Object> changes = captor.getValue();
+
+        assertSame(row, updated);
+        assertEquals("Depois", changes.get("title"));
+        assertEquals("Depois desc", changes.get("description"));
+        assertEquals(TaskStatus.DONE, changes.get("status"));
+        assertEquals(TaskPriority.MEDIUM, changes.get("priority")); // regra do service
+        assertEquals(dto.getDueDate(), changes.get("dueDate"));
+        verify(taskRepository, never()).findById(any());
+        verify(taskRepository, never()).save(any());
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void patch_quandoSoVemTitle_deveAtualizarApenasTitle() {
         // Arrange
-        Task existing = new Task();
-        existing.setTitle("Old");
-        existing.setDescription("Desc");
-        existing.setStatus(TaskStatus.TODO);
-        existing.setPriority(TaskPriority.HIGH);
-        existing.setDueDate(LocalDate.now().plusDays(5));
-        existing.prePersist();
-
-        when(taskRepository.findById(7L)).thenReturn(java.util.Optional.of(existing));
-        when(taskRepository.save(any(Task.class))).thenAnswer(inv -> {
-            Task t = inv.getArgument(0);
-            t.preUpdate();
-            return t;
-        });
+        TaskResponseDTO row = new TaskResponseDTO();
+        row.setId(7L);
+        row.setTitle("New");
+        when(taskRepository.updateColumns(eq(7L), isNull(), anyMap())).thenReturn(java.util.Optional.of(row));
 
         TaskPatchDTO dto = new TaskPatchDTO();
         dto.setTitle("New");
@@ -163,14 +356,47 @@ class TaskServiceTest {
         dto.setDueDate(null);
 
         // Act
-        TaskResponseDTO patched = taskService.patch(7L, dto);
+        TaskResponseDTO patched = taskService.patch(7L, dto, null);
 
         // Assert
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(taskRepository).updateColumns(eq(7L), isNull(), captor.capture());
+
         assertEquals("New", patched.getTitle());
-        assertEquals("Desc", patched.getDescription());
-        assertEquals(TaskStatus.TODO, patched.getStatus());
-        assertEquals(TaskPriority.HIGH, patched.getPriority());
-        assertEquals(existing.getDueDate(), patched.getDueDate());
+        assertEquals(Map.of("title", "New"), captor.getValue()); // só a coluna enviada entra no UPDATE
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    void patch_quandoNaoExiste_deveLancarTaskNotFoundException() {
+        when(taskRepository.updateColumns(eq(99L), isNull(), anyMap())).thenReturn(java.util.Optional.empty());
+
+        TaskPatchDTO dto = new TaskPatchDTO();
+        dto.setTitle("X");
+
+        TaskNotFoundException ex = assertThrows(TaskNotFoundException.class, () -> taskService.patch(99L, dto, null));
+        assertTrue(ex.getMessage().contains("99"));
+    }
+
+    @Test
+    void patch_quandoIfMatchNaoConfere_deveLancarTaskVersionMismatchException() {
+        when(taskRepository.updateColumns(eq(8L), eq(3L), anyMap())).thenReturn(java.util.Optional.empty());
+        when(taskRepository.existsById(8L)).thenReturn(true);
+
+        TaskPatchDTO dto = new TaskPatchDTO();
+        dto.setStatus(TaskStatus.DOING);
+
+        assertThrows(TaskVersionMismatchException.class, () -> taskService.patch(8L, dto, 3L));
+    }
+
+    @Test
+    void delete_quandoIfMatchNaoConfere_naoDeveApagar() {
+        Task existing = new Task();
+        existing.setTitle("X");
+        when(taskRepository.findById(6L)).thenReturn(java.util.Optional.of(existing)); // versão null != 2
+
+        assertThrows(TaskVersionMismatchException.class, () -> taskService.delete(6L, 2L));
+        verify(taskRepository, never()).delete(any(Task.class));
     }
 
     @Test
@@ -180,7 +406,7 @@ class TaskServiceTest {
 
         when(taskRepository.findById(5L)).thenReturn(java.util.Optional.of(existing));
 
-        taskService.delete(5L);
+        taskService.delete(5L, null);
 
         verify(taskRepository).delete(existing);
     }
@@ -0,0 +1,122 @@
+package com.gustavo.taskmanager.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.gustavo.taskmanager.config.SearchProperties;
+import com.gustavo.taskmanager.config.SyncProperties;
+import com.gustavo.taskmanager.dto.TaskChangeDTO;
+import com.gustavo.taskmanager.dto.TaskChangesDTO;
+import com.gustavo.taskmanager.dto.TaskCreateDTO;
+import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.exception.InvalidCursorException;
+import com.gustavo.taskmanager.exception.SyncHistoryExpiredException;
+import com.gustavo.taskmanager.repository.TaskDeletionView;
+import com.gustavo.taskmanager.repository.TaskRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest
+@Import({ TaskSyncService.class, TaskService.class, TaskDeletionPurger.class, SearchProperties.class, SyncProperties.class,
+        TaskMetrics.class, SimpleMeterRegistry.class })
+class TaskSyncServiceTest {
+
+    @Autowired TaskSyncService taskSyncService;
+    @Autowired TaskService taskService;
+    @Autowired SyncProperties syncProperties;
+    @Autowired TaskDeletionPurger taskDeletionPurger;
+    @Autowired TaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        syncProperties.setCommitGrace(Duration.ZERO);
+    }
+
+    @Test
+    void changes_deveIntercalarAlteracoesEExclusoesEContinuarPeloToken() {
+        Long a = criar("A");
+        Long b = criar("B");
+        Long c = criar("C");
+        taskService.delete(c, null);
+
+        TaskChangesDTO first = taskSyncService.changes(null, 2);
+        assertThat(first.getChanges()).extracting(TaskChangeDTO::getId).containsExactly(a, b);
+        assertThat(first.getChanges()).extracting(TaskChangeDTO::getType).containsOnly(TaskChangeDTO.CHANGED);
+        assertThat(first.isHasMore()).isTrue();
+
+        TaskChangesDTO second = taskSyncService.changes(first.getNext(), 2);
+        assertThat(second.getChanges()).hasSize(1);
+        assertThat(second.getChanges().get(0).getType()).isEqualTo(TaskChangeDTO.DELETED);
+        assertThat(second.getChanges().get(0).getId()).isEqualTo(c);
+        assertThat(second.getChanges().get(0).getTask()).isNull();
+        assertThat(second.isHasMore()).isFalse();
+
+        // Nada novo: lista vazia, mas o token continua válido para o próximo sync.
+        TaskChangesDTO third = taskSyncService.changes(second.getNext(), 2);
+        assertThat(third.getChanges()).isEmpty();
+        assertThat(taskSyncService.changes(third.getNext(), 2).getChanges()).isEmpty();
+    }
+
+    @Test
+    void changes_quandoSinceInvalido_deveLancarInvalidCursor() {
+        assertThrows(InvalidCursorException.class, () -> taskSyncService.changes("nao-e-token", 10));
+    }
+
+    @Test
+    void changes_quandoSinceAnteriorARetencao_deveLancarSyncHistoryExpired() {
+        syncProperties.setDeletionRetention(Duration.ofDays(1));
+        String old = LocalDateTime.now().minusDays(2).toString();
+
+        assertThrows(SyncHistoryExpiredException.class, () -> taskSyncService.changes(old, 10));
+        assertThat(taskSyncService.changes(null, 10).getChanges()).isEmpty();
+    }
+
+    // Cliente em dia sem nenhum DELETE no período: o token não pode envelhecer até cair no 410.
+    @Test
+    void changes_semExclusoes_deveAvancarPosicaoAlemDaRetencao() {
+        syncProperties.setDeletionRetention(Duration.ofSeconds(1));
+        String next = taskSyncService.changes(null, 10).getNext();
+
+        for (int i = 0; i < 3; i++) {
+            sleep(400);
+            next = taskSyncService.changes(next, 10).getNext();
+        }
+    }
+
+    @Test
+    void purge_deveApagarSoExclusoesForaDaRetencao() {
+        syncProperties.setDeletionRetention(Duration.ofDays(1));
+        Long antiga = criar("Antiga");
+        Long recente = criar("Recente");
+        taskRepository.logDeletions(List.of(antiga), Task.now().minusDays(2));
+        taskRepository.logDeletions(List.of(recente), Task.now().minusHours(1));
+
+        assertThat(taskDeletionPurger.purge()).isEqualTo(1);
+        assertThat(taskRepository.findDeletionsAfter(LocalDateTime.of(1970, 1, 1, 0, 0), 0L, Task.now(), 10))
+                .extracting(TaskDeletionView::getTaskId).containsExactly(recente);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Long criar(String title) {
+        TaskCreateDTO dto = new TaskCreateDTO();
+        dto.setTitle(title);
+        return taskService.create(dto).getId();
+    }
+}
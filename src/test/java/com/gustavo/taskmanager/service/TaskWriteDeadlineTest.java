@@ -0,0 +1,178 @@
+package com.gustavo.taskmanager.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gustavo.taskmanager.config.CacheConfig;
+import com.gustavo.taskmanager.config.SearchProperties;
+import com.gustavo.taskmanager.config.SyncProperties;
+import com.gustavo.taskmanager.dto.TaskBatchItemDTO;
+import com.gustavo.taskmanager.dto.TaskBatchResultDTO;
+import com.gustavo.taskmanager.dto.TaskCreateDTO;
+import com.gustavo.taskmanager.dto.TaskPatchDTO;
+import com.gustavo.taskmanager.entity.Task;
+import com.gustavo.taskmanager.repository.TaskRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+// Prazos das escritas de task no PostgreSQL: lote de tamanho máximo com o prazo padrão de cada bloco,
+// patch além de app.sync.write-timeout-seconds e uma transação que não escreve task (sem prazo).
+@DataJpaTest(properties = "app.sync.write-timeout-seconds=1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration({ ValidationAutoConfiguration.class, CacheAutoConfiguration.class })
+@Import({ CacheConfig.class, TaskBatchService.class, TaskService.class, SearchProperties.class,
+        TaskMetrics.class, SimpleMeterRegistry.class })
+class TaskWriteDeadlineTest {
+
+    @TestConfiguration
+    static class PostgresConfig {
+        @Bean(destroyMethod = "close")
+        EmbeddedPostgres embeddedPostgres() throws IOException {
+            return EmbeddedPostgres.start();
+        }
+
+        @Bean
+        DataSource dataSource(EmbeddedPostgres postgres) {
+            return postgres.getPostgresDatabase();
+        }
+
+        @Bean
+        SyncProperties syncProperties() {
+            return new SyncProperties();
+        }
+    }
+
+    @Autowired TaskBatchService taskBatchService;
+    @Autowired TaskService taskService;
+    @Autowired TaskRepository taskRepository;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAllInBatch();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.execute("drop trigger if exists tasks_reject on tasks");
+        jdbc.execute("drop trigger if exists tasks_slow on tasks");
+    }
+
+    @Test
+    void patchAlemDoPrazo_deveSerDesfeito() {
+        Long id = taskService.create(novaTask("Antes")).getId();
+        jdbc.execute("""
+                create or replace function tasks_slow() returns trigger language plpgsql as $$
+                begin
+                    perform pg_sleep(1.5);
+                    return new;
+                end $$
+                """);
+        jdbc.execute("create trigger tasks_slow before update on tasks for each row execute function tasks_slow()");
+        TaskPatchDTO dto = new TaskPatchDTO();
+        dto.setTitle("Depois");
+
+        assertThatThrownBy(() -> taskService.patch(id, dto, null))
+                .isInstanceOfAny(DataAccessException.class, TransactionException.class);
+
+        assertThat(taskRepository.findById(id)).get().extracting(Task::getTitle).isEqualTo("Antes");
+    }
+
+    @Test
+    void transacaoQueNaoEscreveTask_naoDeveTerPrazo() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbc.execute("select pg_sleep(1.5)");
+            Task task = new Task();
+            task.setTitle("Sem prazo");
+            taskRepository.save(task);
+        });
+
+        assertThat(taskRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void loteMaximo_deveCommitarDentroDoPrazoPadrao() {
+        TaskBatchResultDTO result = taskBatchService.createAll(lote(TaskBatchService.MAX_BATCH_SIZE));
+
+        assertThat(result.getSucceeded()).isEqualTo(TaskBatchService.MAX_BATCH_SIZE);
+        assertThat(taskRepository.count()).isEqualTo(TaskBatchService.MAX_BATCH_SIZE);
+
+        List<Long> ids = result.getItems().stream().map(TaskBatchItemDTO::getId).toList();
+        assertThat(taskBatchService.deleteAll(ids).getSucceeded()).isEqualTo(TaskBatchService.MAX_BATCH_SIZE);
+        assertThat(taskRepository.count()).isZero();
+    }
+
+    @Test
+    void erroDoBancoNumBloco_deveDesfazerSoAqueleBlocoEReportarCadaItem() {
+        jdbc.execute("""
+                create or replace function tasks_reject() returns trigger language plpgsql as $$
+                begin
+                    if new.title = 'Rejeitada' then
+                        raise exception 'rejeitada pelo teste';
+                    end if;
+                    return new;
+                end $$
+                """);
+        jdbc.execute("create trigger tasks_reject before insert on tasks for each row execute function tasks_reject()");
+        List<TaskCreateDTO> dtos = lote(3 * TaskBatchService.COMMIT_SIZE);
+        dtos.get(TaskBatchService.COMMIT_SIZE + 10).setTitle("Rejeitada");
+        dtos.get(TaskBatchService.COMMIT_SIZE + 20).setTitle("");
+
+        TaskBatchResultDTO result = taskBatchService.createAll(dtos);
+
+        assertThat(taskRepository.count()).isEqualTo(2 * TaskBatchService.COMMIT_SIZE);
+        assertThat(result.getSucceeded()).isEqualTo(2 * TaskBatchService.COMMIT_SIZE);
+        TaskBatchItemDTO rolledBack = result.getItems().get(TaskBatchService.COMMIT_SIZE);
+        assertThat(rolledBack.getStatus()).isEqualTo(500);
+        assertThat(rolledBack.getId()).isNull();
+        assertThat(rolledBack.getTask()).isNull();
+        assertThat(result.getItems().get(TaskBatchService.COMMIT_SIZE + 20).getStatus()).isEqualTo(400);
+        assertThat(result.getItems().get(2 * TaskBatchService.COMMIT_SIZE).getStatus()).isEqualTo(201);
+    }
+
+    private static TaskCreateDTO novaTask(String title) {
+        TaskCreateDTO dto = new TaskCreateDTO();
+        dto.setTitle(title);
+        return dto;
+    }
+
+    private static List<TaskCreateDTO> lote(int size) {
+        List<TaskCreateDTO> dtos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            TaskCreateDTO dto = new TaskCreateDTO();
+            dto.setTitle("Lote " + i);
+            dto.setDescription("Item " + i + " de um lote de tamanho máximo");
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+}